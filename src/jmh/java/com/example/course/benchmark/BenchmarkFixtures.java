@@ -0,0 +1,95 @@
+package com.example.course.benchmark;
+
+import com.example.course.api.dto.Requset.CreateCourseRequest;
+import com.example.course.api.dto.Requset.CreateCourseRequest.PoiItem;
+import com.example.course.domain.Category;
+import com.example.course.domain.Course;
+import com.example.course.domain.Poi;
+import com.example.course.domain.PoiSet;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 공용 요청/엔티티 데이터 (고정 시드 없이 인덱스 기반으로 결정적으로 생성)
+ */
+final class BenchmarkFixtures {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static Map<String, String> openHours(int index) {
+        Map<String, String> openHours = new LinkedHashMap<>();
+        openHours.put("mon", "09:00-18:00");
+        openHours.put("tue", "09:00-18:00");
+        openHours.put("wed", " 09:00 - 18:00 ");
+        openHours.put("thu", "09:00-18:00");
+        openHours.put("fri", "11:00-02:00");
+        openHours.put("sat", index % 2 == 0 ? "10:00-24:00" : "Closed");
+        openHours.put("SUN", "22:00-04:00");
+        return openHours;
+    }
+
+    static PoiItem poiItem(int index) {
+        return new PoiItem(
+                index + 1,
+                "Benchmark POI " + index,
+                CATEGORIES[index % CATEGORIES.length],
+                37.5 + (index % 1000) * 0.0001,
+                126.9 + (index / 1000) * 0.0001,
+                index % 3 == 0,
+                index % 5,
+                openHours(index),
+                null,
+                index % 4 == 0 ? "0" : " warm Vibes, 한강 ",
+                List.of(" coffee", "dessert ", "", "브런치"),
+                4.2,
+                " https://example.com/poi/" + index + " "
+        );
+    }
+
+    static PoiItem openHoursOnlyItem(int index) {
+        return new PoiItem(index + 1, "Hours " + index, Category.CAFE, 37.5, 126.9, true,
+                null, openHours(index), null, null, null, null, null);
+    }
+
+    static CreateCourseRequest createCourseRequest(int poiCount) {
+        List<PoiItem> items = new ArrayList<>(poiCount);
+        for (int i = 0; i < poiCount; i++) {
+            items.add(poiItem(i));
+        }
+        return new CreateCourseRequest("주말 데이트 코스", "서울숲 산책과 카페 방문 코스", items);
+    }
+
+    static Course course(int poiCount) {
+        Course course = new Course();
+        course.initialize("couple-1", "주말 데이트 코스", "서울숲 산책과 카페 방문 코스");
+        for (int i = 0; i < poiCount; i++) {
+            PoiItem item = poiItem(i);
+            Poi poi = new Poi();
+            poi.setName(item.name());
+            poi.setCategory(item.category());
+            poi.setLat(item.lat());
+            poi.setLng(item.lng());
+            poi.setIndoor(item.indoor());
+            poi.setPriceLevel(item.priceLevel());
+            poi.setOpenHours(item.openHours());
+            poi.setAlcohol(0);
+            poi.setMoodTag("warmVibes");
+            poi.setFoodTag(List.of("coffee", "dessert"));
+            poi.setRatingAvg(item.ratingAvg());
+            poi.setLink("https://example.com/poi/" + i);
+
+            PoiSet poiSet = new PoiSet();
+            poiSet.setCourse(course);
+            poiSet.setPoi(poi);
+            poiSet.setOrderIndex(i + 1);
+            course.getPoiSets().add(poiSet);
+        }
+        return course;
+    }
+}
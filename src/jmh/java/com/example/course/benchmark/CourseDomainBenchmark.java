@@ -0,0 +1,71 @@
+package com.example.course.benchmark;
+
+import com.example.course.api.dto.Requset.CreateCourseRequest;
+import com.example.course.api.dto.Requset.CreateCourseRequest.PoiItem;
+import com.example.course.domain.Category;
+import com.example.course.domain.Poi;
+import com.example.course.domain.service.CourseDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코스 생성 요청 정규화 경로 - gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 코스당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CourseDomainBenchmark {
+
+    private static final String[] CATEGORY_INPUTS = {"CAFE", "park", " Restaurant ", "museum", "Bar", "unknown", "gallery", ""};
+
+    @Param({"5", "20"})
+    public int poiCount;
+
+    private CourseDomainService courseDomainService;
+    private CreateCourseRequest request;
+    private PoiItem openHoursOnlyItem;
+
+    @Setup
+    public void setUp() {
+        courseDomainService = new CourseDomainService();
+        request = BenchmarkFixtures.createCourseRequest(poiCount);
+        openHoursOnlyItem = BenchmarkFixtures.openHoursOnlyItem(0);
+    }
+
+    /**
+     * 코스 하나의 POI 전체 검증/정규화 (CourseService.createCourse와 같은 순서)
+     */
+    @Benchmark
+    public void normalizeCourse(Blackhole blackhole) {
+        List<PoiItem> items = request.data();
+        courseDomainService.validateCourseCreation("couple-1", request.title(), items);
+        for (int i = 0; i < items.size(); i++) {
+            blackhole.consume(courseDomainService.normalizePoiData(items.get(i), i));
+        }
+    }
+
+    /**
+     * 영업시간만 있는 항목 - sanitizedOpenHours/normalizeTimeRange 비용이 대부분을 차지
+     */
+    @Benchmark
+    public Poi normalizeOpenHours() {
+        return courseDomainService.normalizePoiData(openHoursOnlyItem, 0);
+    }
+
+    @Benchmark
+    public void categoryFrom(Blackhole blackhole) {
+        for (String input : CATEGORY_INPUTS) {
+            blackhole.consume(Category.from(input));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.course.benchmark;
+
+import com.example.course.api.dto.Requset.CreateCourseRequest;
+import com.example.course.api.dto.Response.CourseResponse;
+import com.example.course.domain.Course;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 매핑(CourseResponse.from)과 요청/응답 Jackson 직렬화 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int poiCount;
+
+    private ObjectMapper objectMapper;
+    private Course course;
+    private CourseResponse courseResponse;
+    private CreateCourseRequest request;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        course = BenchmarkFixtures.course(poiCount);
+        courseResponse = CourseResponse.from(course);
+        request = BenchmarkFixtures.createCourseRequest(poiCount);
+        requestJson = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public CourseResponse courseResponseFrom() {
+        return CourseResponse.from(course);
+    }
+
+    @Benchmark
+    public byte[] writeCourseResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(courseResponse);
+    }
+
+    @Benchmark
+    public CreateCourseRequest readCreateCourseRequest() throws Exception {
+        return objectMapper.readValue(requestJson, CreateCourseRequest.class);
+    }
+
+    @Benchmark
+    public CreateCourseRequest roundTripCreateCourseRequest() throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(request), CreateCourseRequest.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.course.benchmark;
+
+import com.example.course.jwt.JwtProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 인증 비용 - 매번 HS256 검증·클레임 파싱(NimbusJwtDecoder) vs 검증된 Jwt 캐시(JwtProvider)
+ * tokenCount는 동시에 재사용되는 서로 다른 토큰 수 (캐시 크기 이하이면 첫 요청 이후 모두 적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtDecodeBenchmark {
+
+    @Param({"1", "1000"})
+    public int tokenCount;
+
+    private JwtDecoder verifyingDecoder;
+    private JwtDecoder cachingDecoder;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        byte[] secretBytes = new byte[32];
+        new Random(42).nextBytes(secretBytes);
+        String secret = Base64.getEncoder().encodeToString(secretBytes);
+        SecretKey key = Keys.hmacShaKeyFor(secretBytes);
+
+        verifyingDecoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        cachingDecoder = new JwtProvider(secret, 10_000, Duration.ofMinutes(10), new SimpleMeterRegistry()).getJwtDecoder();
+
+        Instant now = Instant.now();
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = Jwts.builder()
+                    .setSubject("user-" + i)
+                    .claim("coupleId", "couple-" + i)
+                    .claim("userId", "user-" + i)
+                    .setIssuedAt(Date.from(now))
+                    .setExpiration(Date.from(now.plus(Duration.ofHours(1))))
+                    .signWith(key, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+    }
+
+    @Benchmark
+    public Jwt verifyEveryRequest() {
+        return verifyingDecoder.decode(nextToken());
+    }
+
+    @Benchmark
+    public Jwt cachedVerification() {
+        return cachingDecoder.decode(nextToken());
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = next + 1 == tokens.length ? 0 : next + 1;
+        return token;
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.course.benchmark;
+
+import com.example.course.domain.Category;
+import com.example.course.service.PoiSpatialIndex;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.postgresql.PGConnection;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 격자 인덱스 반경 검색과 PostgreSQL (lat, lng) bounding-box 조회 비교.
+ * SQL 쪽은 내장 PostgreSQL에 같은 좌표를 적재하고 운영과 같은 idx_poi_location (lat, lng) 인덱스로
+ * lat between / lng between 조회 후 거리순 상위 20개를 고르며, 로컬 소켓 왕복을 포함한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PoiSpatialIndexBenchmark {
+
+    private static final double MIN_LAT = 37.40;
+    private static final double MIN_LNG = 126.75;
+    private static final double SPAN = 0.5;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final int QUERY_COUNT = 1024;
+    private static final int LIMIT = 20;
+    private static final Category[] CATEGORIES = Category.values();
+
+    @Param({"1000000"})
+    public int poiCount;
+
+    @Param({"500", "2000"})
+    public int radiusMeters;
+
+    private PoiSpatialIndex index;
+    private double[] queryLats;
+    private double[] queryLngs;
+    private int query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        double[][] points = points(poiCount);
+        index = new PoiSpatialIndex(null, null, null, null);
+        for (int i = 0; i < poiCount; i++) {
+            index.put(i, points[0][i], points[1][i], CATEGORIES[i % CATEGORIES.length], i % 2 == 0, null);
+        }
+        SplittableRandom random = new SplittableRandom(7);
+        queryLats = new double[QUERY_COUNT];
+        queryLngs = new double[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryLats[i] = MIN_LAT + random.nextDouble() * SPAN;
+            queryLngs[i] = MIN_LNG + random.nextDouble() * SPAN;
+        }
+    }
+
+    @Benchmark
+    public Object gridIndex() {
+        int q = nextQuery();
+        return index.findNearby(queryLats[q], queryLngs[q], radiusMeters, null, null, -1, LIMIT);
+    }
+
+    @Benchmark
+    public int sqlBoundingBox(Database database) throws SQLException {
+        int q = nextQuery();
+        double lat = queryLats[q];
+        double lng = queryLngs[q];
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(lat)));
+        PreparedStatement statement = database.boundingBox;
+        statement.setDouble(1, lat - latDelta);
+        statement.setDouble(2, lat + latDelta);
+        statement.setDouble(3, lng - lngDelta);
+        statement.setDouble(4, lng + lngDelta);
+        PriorityQueue<double[]> nearest = new PriorityQueue<>(LIMIT + 1,
+                Comparator.comparingDouble((double[] match) -> match[1]).reversed());
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                double distance = distanceMeters(lat, lng, rs.getDouble(2), rs.getDouble(3));
+                if (distance > radiusMeters) {
+                    continue;
+                }
+                nearest.add(new double[]{rs.getLong(1), distance});
+                if (nearest.size() > LIMIT) {
+                    nearest.poll();
+                }
+            }
+        }
+        return nearest.size();
+    }
+
+    private int nextQuery() {
+        query = (query + 1) & (QUERY_COUNT - 1);
+        return query;
+    }
+
+    /**
+     * 두 비교 대상이 같은 좌표를 쓰도록 시드 고정
+     */
+    private static double[][] points(int poiCount) {
+        SplittableRandom random = new SplittableRandom(42);
+        double[][] points = new double[2][poiCount];
+        for (int i = 0; i < poiCount; i++) {
+            points[0][i] = MIN_LAT + random.nextDouble() * SPAN;
+            points[1][i] = MIN_LNG + random.nextDouble() * SPAN;
+        }
+        return points;
+    }
+
+    private static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 내장 PostgreSQL - poi 테이블의 검색 관련 열과 (lat, lng) 인덱스만 재현
+     */
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        private static final int COPY_CHUNK = 100_000;
+
+        @Param({"1000000"})
+        public int poiCount;
+
+        private EmbeddedPostgres postgres;
+        private Connection connection;
+        private PreparedStatement boundingBox;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            // gradle jmh는 jmh jar와 의존성 jar를 함께 올려 같은 바이너리가 두 번 보이므로 클래스패스의 첫 번째 것을 사용
+            postgres = EmbeddedPostgres.builder()
+                    .setPgBinaryResolver((system, hardware) -> Database.class.getResourceAsStream(
+                            ("/postgres-" + system + "-" + hardware + ".txz").toLowerCase(Locale.ROOT)))
+                    .start();
+            connection = postgres.getPostgresDatabase().getConnection();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        create table poi (
+                            id bigint primary key,
+                            lat double precision not null,
+                            lng double precision not null,
+                            category varchar(40) not null,
+                            indoor boolean not null
+                        )""");
+            }
+            double[][] points = points(poiCount);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            for (int start = 0; start < poiCount; start += COPY_CHUNK) {
+                StringBuilder rows = new StringBuilder();
+                for (int i = start; i < Math.min(start + COPY_CHUNK, poiCount); i++) {
+                    rows.append(i).append(',').append(points[0][i]).append(',').append(points[1][i]).append(',')
+                            .append(CATEGORIES[i % CATEGORIES.length].name()).append(',').append(i % 2 == 0).append('\n');
+                }
+                pgConnection.getCopyAPI().copyIn("copy poi (id, lat, lng, category, indoor) from stdin with (format csv)",
+                        new StringReader(rows.toString()));
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create index idx_poi_location on poi (lat, lng)");
+                statement.execute("analyze poi");
+            }
+            boundingBox = connection.prepareStatement(
+                    "select id, lat, lng from poi where lat between ? and ? and lng between ? and ?");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            connection.close();
+            postgres.close();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.course.benchmark;
+
+import com.example.course.domain.Poi;
+import com.example.course.domain.PoiKey;
+import com.example.course.domain.service.CourseDomainService;
+import com.example.course.repository.PoiUpsertRepository.UpsertedPoi;
+import com.example.course.service.PoiUpsertCoalescer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인기 POI를 공유하는 코스 생성이 여러 스레드에서 동시에 들어올 때 POI 기록 경합 비교.
+ * DB 기록은 writeLatencyMicros 동안 대기하는 가짜 Writer로 대체하고, 실제로 기록된 행 수를 rowsWritten으로 집계한다.
+ * direct는 기존처럼 요청마다 기록, coalesced는 PoiUpsertCoalescer로 같은 키의 동시 기록을 합친다.
+ * 같은 행에 대한 DB 행 잠금 대기는 재현하지 않으므로 direct 결과는 실제보다 낙관적이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class PoiUpsertCoalescerBenchmark {
+
+    private static final int POIS_PER_COURSE = 5;
+
+    /** 요청들이 공유하는 POI 키 수 - 작을수록 같은 키가 동시에 기록될 확률이 높음 */
+    @Param({"8", "64", "1024"})
+    public int hotKeys;
+
+    @Param({"2000"})
+    public int writeLatencyMicros;
+
+    private Poi[] pool;
+    private PoiUpsertCoalescer coalescer;
+    private final AtomicLong nextId = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        CourseDomainService domainService = new CourseDomainService();
+        pool = new Poi[hotKeys];
+        for (int i = 0; i < hotKeys; i++) {
+            pool[i] = domainService.normalizePoiData(BenchmarkFixtures.poiItem(i), i);
+        }
+        coalescer = new PoiUpsertCoalescer(Duration.ofSeconds(2));
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WriteCounters {
+        public long rowsWritten;
+        public long writes;
+        private SplittableRandom random;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rowsWritten = 0;
+            writes = 0;
+            random = new SplittableRandom(Thread.currentThread().getId());
+        }
+    }
+
+    @Benchmark
+    public List<UpsertedPoi> direct(WriteCounters counters) {
+        List<Poi> course = course(counters.random);
+        course.sort((a, b) -> PoiKey.LOCK_ORDER.compare(PoiKey.of(a), PoiKey.of(b)));
+        return write(course, counters);
+    }
+
+    @Benchmark
+    public PoiUpsertCoalescer.Result coalesced(WriteCounters counters) {
+        return coalescer.upsert(course(counters.random), pois -> write(pois, counters));
+    }
+
+    private List<Poi> course(SplittableRandom random) {
+        Map<PoiKey, Poi> distinct = new LinkedHashMap<>();
+        while (distinct.size() < Math.min(POIS_PER_COURSE, hotKeys)) {
+            Poi poi = pool[random.nextInt(hotKeys)];
+            distinct.put(PoiKey.of(poi), poi);
+        }
+        return new ArrayList<>(distinct.values());
+    }
+
+    private List<UpsertedPoi> write(List<Poi> pois, WriteCounters counters) {
+        LockSupport.parkNanos(writeLatencyMicros * 1_000L);
+        counters.writes++;
+        counters.rowsWritten += pois.size();
+        List<UpsertedPoi> upserted = new ArrayList<>(pois.size());
+        for (Poi poi : pois) {
+            upserted.add(new UpsertedPoi(PoiKey.of(poi), nextId.incrementAndGet(), false, true));
+        }
+        return upserted;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.course.loadtest;
+
+enum Endpoint {
+    GET("GET /api/courses"),
+    POST("POST /api/courses"),
+    PATCH("PATCH /api/courses/{id}/review"),
+    DELETE("DELETE /api/courses/{id}");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Endpoint fromKey(String key) {
+        return valueOf(key.toUpperCase());
+    }
+}
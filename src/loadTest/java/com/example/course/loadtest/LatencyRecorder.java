@@ -0,0 +1,74 @@
+package com.example.course.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 스레드별 응답 시간 기록 (동기화 없이 기록하고 종료 후 병합)
+ */
+final class LatencyRecorder {
+
+    private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+
+    void record(Endpoint endpoint, long latencyNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(latencyNanos, success);
+    }
+
+    static Map<Endpoint, Samples> merge(Iterable<LatencyRecorder> recorders) {
+        Map<Endpoint, Samples> merged = new EnumMap<>(Endpoint.class);
+        for (LatencyRecorder recorder : recorders) {
+            recorder.samples.forEach((endpoint, samples) ->
+                    merged.computeIfAbsent(endpoint, key -> new Samples()).addAll(samples));
+        }
+        return merged;
+    }
+
+    static final class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        void add(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        int count() {
+            return count;
+        }
+
+        int errors() {
+            return errors;
+        }
+
+        /**
+         * nearest-rank 백분위 (밀리초)
+         */
+        double[] percentilesMillis(double... percentiles) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            double[] result = new double[percentiles.length];
+            for (int i = 0; i < percentiles.length; i++) {
+                if (count == 0) {
+                    continue;
+                }
+                int rank = (int) Math.ceil(percentiles[i] / 100.0 * count);
+                result[i] = sorted[Math.min(Math.max(rank, 1), count) - 1] / 1_000_000.0;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.course.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 설정된 비율로 /api/courses 엔드포인트를 동시에 호출하고 워밍업 이후 응답 시간을 기록
+ */
+final class LoadDriver {
+
+    private static final double NEW_POI_RATIO = 0.2;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final String[] coupleIds;
+    private final String[] tokens;
+    private final Map<String, ConcurrentLinkedDeque<String>> courseIds;
+    private final Endpoint[] weightedEndpoints;
+    private final AtomicInteger newPoiSequence = new AtomicInteger();
+
+    LoadDriver(ObjectMapper objectMapper, LoadTestConfig config, String baseUrl, TokenMinter tokenMinter,
+               Map<String, ConcurrentLinkedDeque<String>> courseIds) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.courseIds = courseIds;
+        this.coupleIds = courseIds.keySet().toArray(String[]::new);
+        this.tokens = new String[coupleIds.length];
+        Duration ttl = config.warmup().plus(config.duration()).plusMinutes(10);
+        for (int i = 0; i < coupleIds.length; i++) {
+            tokens[i] = tokenMinter.mint(coupleIds[i], "user-" + coupleIds[i], ttl);
+        }
+        List<Endpoint> weighted = new ArrayList<>();
+        config.mix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        this.weightedEndpoints = weighted.toArray(Endpoint[]::new);
+    }
+
+    List<LatencyRecorder> run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long deadline = measureFrom + config.duration().toNanos();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(config.concurrency());
+        for (int worker = 0; worker < config.concurrency(); worker++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            SplittableRandom random = new SplittableRandom(worker * 31L + 1);
+            Thread thread = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+                        int couple = random.nextInt(coupleIds.length);
+                        long requestStart = System.nanoTime();
+                        boolean success = call(endpoint, couple, random);
+                        long requestEnd = System.nanoTime();
+                        if (requestStart >= measureFrom) {
+                            recorder.record(endpoint, requestEnd - requestStart, success);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-driver-" + worker);
+            thread.start();
+        }
+        done.await();
+        return recorders;
+    }
+
+    private boolean call(Endpoint endpoint, int couple, SplittableRandom random) {
+        String coupleId = coupleIds[couple];
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + tokens[couple]);
+        try {
+            switch (endpoint) {
+                case GET -> request.uri(URI.create(baseUrl + "/api/courses?size=20")).GET();
+                case POST -> request.uri(URI.create(baseUrl + "/api/courses"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(createCourseBody(random))));
+                case PATCH -> {
+                    String courseId = courseIds.get(coupleId).peekFirst();
+                    if (courseId == null) {
+                        return true;
+                    }
+                    request.uri(URI.create(baseUrl + "/api/courses/" + courseId + "/review"))
+                            .header("Content-Type", "application/json")
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"reviewScore\":" + (1 + random.nextInt(5)) + "}"));
+                }
+                case DELETE -> {
+                    String courseId = courseIds.get(coupleId).pollLast();
+                    if (courseId == null) {
+                        return true;
+                    }
+                    request.uri(URI.create(baseUrl + "/api/courses/" + courseId)).DELETE();
+                }
+            }
+            HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (Exception ex) {
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 기존 POI 풀에서 고르되 일부는 새 POI로 만들어 upsert 경로도 함께 부하를 준다.
+     */
+    private Map<String, Object> createCourseBody(SplittableRandom random) {
+        List<Map<String, Object>> data = new ArrayList<>(config.poisPerCourse());
+        for (int seq = 1; seq <= config.poisPerCourse(); seq++) {
+            int index = random.nextDouble() < NEW_POI_RATIO
+                    ? config.poiPool() + newPoiSequence.getAndIncrement()
+                    : random.nextInt(config.poiPool());
+            data.add(SyntheticData.poiItem(index, seq));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", "부하 테스트 코스");
+        body.put("explain", "부하 테스트 중 생성된 코스");
+        body.put("data", data);
+        return body;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.course.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 - "--key=value" 인자로 덮어쓴다.
+ *
+ * @param couples          시드할 커플 수
+ * @param coursesPerCouple 커플당 시드 코스 수
+ * @param poisPerCourse    코스당 POI 수 (시드/생성 요청 공통)
+ * @param poiPool          시드할 고유 POI 수 - 코스는 이 중에서 POI를 고른다
+ * @param concurrency      동시 요청 스레드 수
+ * @param duration         측정 구간 길이
+ * @param warmup           측정 전 워밍업 구간 길이 (결과에서 제외)
+ * @param mix              엔드포인트별 요청 비중
+ * @param poolSize         애플리케이션 Hikari 커넥션 풀 크기
+ * @param appLogLevel      com.example.course 로그 레벨
+ */
+record LoadTestConfig(
+        int couples,
+        int coursesPerCouple,
+        int poisPerCourse,
+        int poiPool,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Map<Endpoint, Integer> mix,
+        int poolSize,
+        String appLogLevel
+) {
+
+    static LoadTestConfig fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Arguments must look like --key=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(
+                Integer.parseInt(values.getOrDefault("couples", "100")),
+                Integer.parseInt(values.getOrDefault("courses", "20")),
+                Integer.parseInt(values.getOrDefault("pois", "5")),
+                Integer.parseInt(values.getOrDefault("poiPool", "10000")),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                parseDuration(values.getOrDefault("warmup", "15s")),
+                parseMix(values.getOrDefault("mix", "get:70,post:15,patch:10,delete:5")),
+                Integer.parseInt(values.getOrDefault("poolSize", "20")),
+                values.getOrDefault("appLogLevel", "INFO")
+        );
+    }
+
+    /**
+     * "90s", "5m", "500ms" 형식
+     */
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Duration must end with ms, s or m: " + value);
+        };
+    }
+
+    /**
+     * "get:70,post:15,patch:10,delete:5" 형식
+     */
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : value.split(",")) {
+            String[] entry = part.trim().split(":");
+            mix.put(Endpoint.fromKey(entry[0].trim()), Integer.parseInt(entry[1].trim()));
+        }
+        return mix;
+    }
+}
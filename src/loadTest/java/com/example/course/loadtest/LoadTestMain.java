@@ -0,0 +1,110 @@
+package com.example.course.loadtest;
+
+import com.example.course.CourseApplication;
+import com.example.course.service.PoiSpatialIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 부하 테스트 진입점: 내장 PostgreSQL 기동 → 애플리케이션 기동(스키마 생성) → 합성 데이터 시드 → 동시 요청 → 결과 출력.
+ * 네트워크(Config Server 등) 없이 로컬에서만 동작한다.
+ */
+public final class LoadTestMain {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 100};
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        TokenMinter tokenMinter = TokenMinter.withRandomSecret();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = startApplication(postgres, config, tokenMinter)) {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            long seedStart = System.nanoTime();
+            Map<String, ConcurrentLinkedDeque<String>> courseIds =
+                    new SyntheticDataSeeder(context.getBean(JdbcTemplate.class), objectMapper, config).seed();
+            context.getBean(PoiSpatialIndex.class).rebuild();
+            System.out.printf("Seeded %d couples x %d courses x %d POIs (POI pool %d) in %d ms%n",
+                    config.couples(), config.coursesPerCouple(), config.poisPerCourse(), config.poiPool(),
+                    (System.nanoTime() - seedStart) / 1_000_000);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver(objectMapper, config, "http://localhost:" + port, tokenMinter, courseIds);
+            System.out.printf("Driving %s with %d threads: warmup %s, measure %s%n",
+                    config.mix(), config.concurrency(), config.warmup(), config.duration());
+            Map<Endpoint, LatencyRecorder.Samples> results = LatencyRecorder.merge(driver.run());
+
+            report(config, results, objectMapper);
+        }
+    }
+
+    static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres, LoadTestConfig config,
+                                                                   TokenMinter tokenMinter, String... extraArgs) {
+        // 명령줄 인자로 넘겨 application.yaml(prod 프로필, Config Server)보다 우선 적용
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=loadtest",
+                "--spring.cloud.config.enabled=false",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.datasource.hikari.maximum-pool-size=" + config.poolSize(),
+                "--spring.jpa.hibernate.ddl-auto=create",
+                // 빈 DB는 엔티티 기준으로 바로 생성 (마이그레이션은 기존 스키마를 전제로 함)
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.open-in-view=false",
+                "--jwt.secret=" + tokenMinter.secret(),
+                "--server.port=0",
+                "--logging.level.com.example.course=" + config.appLogLevel()
+        ));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(CourseApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static void report(LoadTestConfig config, Map<Endpoint, LatencyRecorder.Samples> results,
+                               ObjectMapper objectMapper) throws IOException {
+        double seconds = config.duration().toNanos() / 1_000_000_000.0;
+        System.out.printf("%n%-32s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("config", config);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        results.forEach((endpoint, samples) -> {
+            double[] p = samples.percentilesMillis(PERCENTILES);
+            double throughput = samples.count() / seconds;
+            System.out.printf("%-32s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.label(), samples.count(), samples.errors(), throughput, p[0], p[1], p[2], p[3], p[4]);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", samples.count());
+            row.put("errors", samples.errors());
+            row.put("throughputPerSecond", throughput);
+            row.put("latencyMillis", Map.of("p50", p[0], "p90", p[1], "p99", p[2], "p99_9", p[3], "max", p[4]));
+            endpoints.put(endpoint.label(), row);
+        });
+        json.put("endpoints", endpoints);
+
+        Path output = Path.of("build", "reports", "loadtest",
+                "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        Files.createDirectories(output.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), json);
+        System.out.printf("%nResults written to %s%n", output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.course.loadtest;
+
+import com.example.course.api.dto.Requset.CreateCourseRequest.PoiItem;
+import com.example.course.config.SqlStatistics;
+import com.example.course.domain.Poi;
+import com.example.course.domain.PoiKey;
+import com.example.course.domain.service.CourseDomainService;
+import com.example.course.repository.PoiRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POI 기록 경로 비교: 항목별 조회 + save(이전 구현) vs 일괄 조회 + 단일 upsert(현재 구현).
+ * 같은 내장 PostgreSQL/애플리케이션에서 코스 하나 분량의 POI를 순차로 기록하며 왕복 횟수와 지연 백분위를 잰다.
+ * 시나리오: new(처음 보는 POI), unchanged(같은 내용 재전송), changed(같은 키, 내용 변경).
+ */
+public final class PoiUpsertComparison {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 100};
+    private static final String[] SCENARIOS = {"new", "unchanged", "changed"};
+    // 경로별로 POI 인덱스 구간을 나눠 서로의 행을 재사용하지 않도록 함
+    private static final int PATH_INDEX_OFFSET = 5_000_000;
+
+    private final PoiRepository poiRepository;
+    private final CourseDomainService courseDomainService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int poisPerCourse;
+
+    private PoiUpsertComparison(ConfigurableApplicationContext context, int poisPerCourse) {
+        this.poiRepository = context.getBean(PoiRepository.class);
+        this.courseDomainService = context.getBean(CourseDomainService.class);
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.poisPerCourse = poisPerCourse;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        int iterations = intArg(args, "iterations", 2_000);
+        int warmupIterations = intArg(args, "warmupIterations", 500);
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context =
+                     LoadTestMain.startApplication(postgres, config, TokenMinter.withRandomSecret(),
+                             // 경로별 SQL 실행 수 비교에 필요 (기본값은 꺼짐)
+                             "--course.sql-stats.enabled=true")) {
+            PoiUpsertComparison comparison = new PoiUpsertComparison(context, config.poisPerCourse());
+            System.out.printf("Writing %d POIs per course, %d iterations per scenario (warmup %d)%n",
+                    config.poisPerCourse(), iterations, warmupIterations);
+
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("poisPerCourse", config.poisPerCourse());
+            json.put("iterations", iterations);
+            System.out.printf("%n%-10s %-10s %10s %9s %9s %9s %9s%n",
+                    "path", "scenario", "stmts/op", "p50 ms", "p90 ms", "p99 ms", "max ms");
+            for (Path path : Path.values()) {
+                int base = path.ordinal() * PATH_INDEX_OFFSET;
+                comparison.run(path, base, warmupIterations);
+                Map<String, Object> scenarios = new LinkedHashMap<>();
+                for (Map.Entry<String, Result> result : comparison.run(path, base + warmupIterations * config.poisPerCourse(), iterations).entrySet()) {
+                    double[] p = result.getValue().samples().percentilesMillis(PERCENTILES);
+                    double statementsPerOp = (double) result.getValue().statements() / iterations;
+                    System.out.printf("%-10s %-10s %10.1f %9.3f %9.3f %9.3f %9.3f%n",
+                            path.label, result.getKey(), statementsPerOp, p[0], p[1], p[2], p[3]);
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("statementsPerOp", statementsPerOp);
+                    row.put("latencyMillis", Map.of("p50", p[0], "p90", p[1], "p99", p[2], "max", p[3]));
+                    scenarios.put(result.getKey(), row);
+                }
+                json.put(path.label, scenarios);
+            }
+
+            java.nio.file.Path output = java.nio.file.Path.of("build", "reports", "loadtest",
+                    "poi-upsert-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+            Files.createDirectories(output.getParent());
+            comparison.objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), json);
+            System.out.printf("%nResults written to %s%n", output.toAbsolutePath());
+        }
+    }
+
+    /**
+     * 시나리오를 순서대로(new → unchanged → changed) 같은 POI 구간에 실행
+     */
+    private Map<String, Result> run(Path path, int firstIndex, int iterations) throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String scenario : SCENARIOS) {
+            LatencyRecorder.Samples samples = new LatencyRecorder.Samples();
+            long statements = 0;
+            for (int i = 0; i < iterations; i++) {
+                List<Poi> pois = normalizedPois(firstIndex + i * poisPerCourse, scenario.equals("changed"));
+                long start = System.nanoTime();
+                SqlStatistics.Snapshot snapshot = SqlStatistics.measure(() -> {
+                    if (path == Path.PER_ITEM) {
+                        writePerItem(pois);
+                    } else {
+                        writeBatched(pois);
+                    }
+                    return null;
+                });
+                samples.add(System.nanoTime() - start, true);
+                statements += snapshot.statements();
+            }
+            results.put(scenario, new Result(samples, statements));
+        }
+        return results;
+    }
+
+    /**
+     * 이전 구현: POI마다 자연 키 조회 후 기존 행이면 갱신, 없으면 삽입 (한 트랜잭션)
+     */
+    private void writePerItem(List<Poi> pois) {
+        writeTransaction.executeWithoutResult(status -> {
+            for (Poi poi : pois) {
+                poiRepository.findByNameAndLatAndLng(poi.getName(), poi.getLat(), poi.getLng())
+                        .ifPresentOrElse(existing -> {
+                            existing.updateFrom(poi);
+                            poiRepository.save(existing);
+                        }, () -> poiRepository.save(poi));
+            }
+        });
+    }
+
+    /**
+     * 현재 구현(CourseService.upsertPois): 일괄 조회 후 내용이 다른 POI만 단일 upsert 문으로 기록
+     */
+    private void writeBatched(List<Poi> pois) {
+        Map<PoiKey, Poi> pending = new LinkedHashMap<>();
+        pois.forEach(poi -> pending.put(PoiKey.of(poi), poi));
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (Poi existing : poiRepository.findAllByKeys(pending.keySet())) {
+                Poi poi = pending.get(PoiKey.of(existing));
+                if (poi != null && existing.hasSameContent(poi)) {
+                    pending.remove(PoiKey.of(existing));
+                }
+            }
+        });
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Poi> sorted = new ArrayList<>(pending.values());
+        sorted.sort(Comparator.comparing(PoiKey::of, PoiKey.LOCK_ORDER));
+        writeTransaction.executeWithoutResult(status -> poiRepository.upsertAll(sorted));
+    }
+
+    private List<Poi> normalizedPois(int firstIndex, boolean changed) {
+        List<Poi> pois = new ArrayList<>(poisPerCourse);
+        for (int i = 0; i < poisPerCourse; i++) {
+            Map<String, Object> item = SyntheticData.poiItem(firstIndex + i, i + 1);
+            if (changed) {
+                item.put("ratingAvg", 1.5);
+            }
+            pois.add(courseDomainService.normalizePoiData(objectMapper.convertValue(item, PoiItem.class), i));
+        }
+        return pois;
+    }
+
+    private static int intArg(String[] args, String key, int defaultValue) {
+        String prefix = "--" + key + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return Integer.parseInt(arg.substring(prefix.length()));
+            }
+        }
+        return defaultValue;
+    }
+
+    private enum Path {
+        PER_ITEM("per-item"),
+        BATCHED("batched");
+
+        private final String label;
+
+        Path(String label) {
+            this.label = label;
+        }
+    }
+
+    private record Result(LatencyRecorder.Samples samples, long statements) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.course.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인덱스로 결정되는 합성 POI - 시드 데이터와 생성 요청 본문이 같은 POI를 가리키도록 한다.
+ */
+final class SyntheticData {
+
+    static final String[] CATEGORIES = {"CAFE", "PARK", "RESTAURANT", "MUSEUM", "BAR", "SHOP", "HOTEL", "LIBRARY", "GALLERY", "OTHER"};
+    private static final String[] MOOD_TAGS = {"lovely", "warmVibes", "coolBreeze", "cozy", "romantic"};
+    private static final String[] FOOD_TAGS = {"coffee", "dessert", "brunch", "wine", "pasta", "bbq"};
+    private static final double MIN_LAT = 37.45;
+    private static final double MIN_LNG = 126.85;
+
+    private SyntheticData() {
+    }
+
+    static String name(int index) {
+        return "LoadTest POI " + index;
+    }
+
+    static String category(int index) {
+        return CATEGORIES[index % CATEGORIES.length];
+    }
+
+    /** 0.3° 정사각형 안의 격자 좌표 (서울 근방) */
+    static double lat(int index) {
+        return MIN_LAT + (index % 3000) * 0.0001;
+    }
+
+    static double lng(int index) {
+        return MIN_LNG + (index / 3000 % 3000) * 0.0001;
+    }
+
+    static boolean indoor(int index) {
+        return index % 3 != 0;
+    }
+
+    static String moodTag(int index) {
+        return MOOD_TAGS[index % MOOD_TAGS.length];
+    }
+
+    static List<String> foodTags(int index) {
+        return List.of(FOOD_TAGS[index % FOOD_TAGS.length], FOOD_TAGS[(index + 1) % FOOD_TAGS.length]);
+    }
+
+    static Map<String, String> openHours(int index) {
+        Map<String, String> openHours = new LinkedHashMap<>();
+        for (String day : List.of("mon", "tue", "wed", "thu", "fri")) {
+            openHours.put(day, "10:00-22:00");
+        }
+        openHours.put("sat", index % 4 == 0 ? "18:00-02:00" : "10:00-24:00");
+        openHours.put("sun", index % 5 == 0 ? "Closed" : "11:00-20:00");
+        return openHours;
+    }
+
+    /**
+     * POST /api/courses 요청의 data 항목
+     */
+    static Map<String, Object> poiItem(int index, int seq) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("seq", seq);
+        item.put("name", name(index));
+        item.put("category", category(index));
+        item.put("lat", lat(index));
+        item.put("lng", lng(index));
+        item.put("indoor", indoor(index));
+        item.put("priceLevel", index % 5);
+        item.put("openHours", openHours(index));
+        item.put("alcohol", index % 2);
+        item.put("moodTag", moodTag(index));
+        item.put("foodTag", foodTags(index));
+        item.put("link", "https://example.com/poi/" + index);
+        item.put("ratingAvg", 3.0 + (index % 20) / 10.0);
+        return item;
+    }
+}
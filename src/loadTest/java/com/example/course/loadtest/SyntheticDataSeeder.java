@@ -0,0 +1,128 @@
+package com.example.course.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * couples × courses × pois 규모의 합성 데이터를 JDBC 배치로 직접 적재 (Hibernate가 만든 스키마 기준)
+ */
+final class SyntheticDataSeeder {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final LoadTestConfig config;
+
+    SyntheticDataSeeder(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.config = config;
+    }
+
+    /**
+     * @return 커플 id별 시드 코스 id 목록 (PATCH/DELETE 대상)
+     */
+    Map<String, ConcurrentLinkedDeque<String>> seed() {
+        long[] poiIds = seedPois();
+        return seedCourses(poiIds);
+    }
+
+    private long[] seedPois() {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> pois = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < config.poiPool(); i++) {
+            pois.add(new Object[]{SyntheticData.name(i), SyntheticData.category(i), SyntheticData.lat(i), SyntheticData.lng(i),
+                    SyntheticData.indoor(i), i % 5, toJson(SyntheticData.openHours(i)), i % 2, SyntheticData.moodTag(i),
+                    toJson(SyntheticData.foodTags(i)), 3.0 + (i % 20) / 10.0, "https://example.com/poi/" + i, now, now});
+            if (pois.size() == BATCH_SIZE) {
+                insertPois(pois);
+            }
+        }
+        insertPois(pois);
+
+        return jdbcTemplate.queryForList("select id from poi order by id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Map<String, ConcurrentLinkedDeque<String>> seedCourses(long[] poiIds) {
+        SplittableRandom random = new SplittableRandom(7);
+        Instant now = Instant.now();
+        Map<String, ConcurrentLinkedDeque<String>> courseIds = new ConcurrentHashMap<>();
+        List<Object[]> courses = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> poiSets = new ArrayList<>(BATCH_SIZE);
+        for (int couple = 0; couple < config.couples(); couple++) {
+            String coupleId = coupleId(couple);
+            ConcurrentLinkedDeque<String> ids = new ConcurrentLinkedDeque<>();
+            for (int course = 0; course < config.coursesPerCouple(); course++) {
+                String courseId = UUID.randomUUID().toString();
+                Timestamp createdAt = Timestamp.from(now.minus(random.nextInt(90 * 24 * 60), ChronoUnit.MINUTES));
+                courses.add(new Object[]{courseId, coupleId, "코스 " + couple + "-" + course, "부하 테스트용 코스",
+                        (long) random.nextInt(11), createdAt, createdAt});
+                for (int order = 1; order <= config.poisPerCourse(); order++) {
+                    poiSets.add(new Object[]{courseId, poiIds[random.nextInt(poiIds.length)], order, createdAt});
+                }
+                ids.add(courseId);
+                if (poiSets.size() >= BATCH_SIZE) {
+                    insertCourses(courses, poiSets);
+                }
+            }
+            courseIds.put(coupleId, ids);
+        }
+        insertCourses(courses, poiSets);
+        return courseIds;
+    }
+
+    static String coupleId(int couple) {
+        return Integer.toString(couple + 1);
+    }
+
+    private void insertPois(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into poi (name, category, lat, lng, indoor, price_level, open_hours, alcohol,
+                                 mood_tag, food_tag, rating_avg, link, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, cast(? as jsonb), ?, ?, cast(? as jsonb), ?, ?, ?, ?)
+                """, rows);
+        rows.clear();
+    }
+
+    private void insertCourses(List<Object[]> courses, List<Object[]> poiSets) {
+        if (!courses.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    insert into course (id, couple_id, title, description, score, created_at, updated_at)
+                    values (?, ?, ?, ?, ?, ?, ?)
+                    """, courses);
+            courses.clear();
+        }
+        if (!poiSets.isEmpty()) {
+            jdbcTemplate.batchUpdate("""
+                    insert into poi_set (id, course_id, poi_id, "order", updated_at)
+                    values (nextval('poi_set_seq'), ?, ?, ?, ?)
+                    """, poiSets);
+            poiSets.clear();
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
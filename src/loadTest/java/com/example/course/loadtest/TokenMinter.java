@@ -0,0 +1,57 @@
+package com.example.course.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * JwtProvider가 검증하는 방식 그대로 HS256 토큰 발급 (Base64 시크릿, 실패 시 UTF-8 바이트)
+ */
+final class TokenMinter {
+
+    private final String secret;
+    private final SecretKey key;
+
+    private TokenMinter(String secret) {
+        this.secret = secret;
+        this.key = buildSecretKey(secret);
+    }
+
+    static TokenMinter withRandomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return new TokenMinter(Base64.getEncoder().encodeToString(secret));
+    }
+
+    String secret() {
+        return secret;
+    }
+
+    String mint(String coupleId, String userId, Duration ttl) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(userId)
+                .claim("coupleId", coupleId)
+                .claim("userId", userId)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(ttl)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static SecretKey buildSecretKey(String secret) {
+        try {
+            return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+        } catch (IllegalArgumentException ex) {
+            return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.course.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 Jwt를 토큰 해시(SHA-256) 기준으로 캐시하는 JwtDecoder.
+ * 서명/클레임 검증은 위임 디코더가 처음 한 번 수행하고, 항목은 exp 시각(또는 maxTtl)에 만료된다.
+ * 검증에 실패한 토큰은 캐시하지 않으며, nbf는 검증 통과 이후 시간이 흐를수록 계속 만족되므로 재확인하지 않는다.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Cache<ByteBuffer, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, Jwt>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, Jwt jwt, long currentTime) {
+                        Instant expiresAt = jwt.getExpiresAt();
+                        if (expiresAt == null) {
+                            return maxTtlNanos;
+                        }
+                        long untilExpiry = Duration.between(clock.instant(), expiresAt).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(null);
+        }
+        ByteBuffer key = hash(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            // 만료 시각을 지난 항목은 캐시 만료 처리 시점과 관계없이 다시 검증 (위임 디코더의 clock skew 판단을 따름)
+            Instant expiresAt = cached.getExpiresAt();
+            if (expiresAt == null || clock.instant().isBefore(expiresAt)) {
+                return cached;
+            }
+            cache.invalidate(key);
+            return delegate.decode(token);
+        }
+        return cache.get(key, ignored -> delegate.decode(token));
+    }
+
+    Cache<ByteBuffer, Jwt> cache() {
+        return cache;
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
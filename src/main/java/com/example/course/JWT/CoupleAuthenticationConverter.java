@@ -0,0 +1,39 @@
+package com.example.course.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Jwt → CoupleAuthenticationToken 변환.
+ * CachingJwtDecoder가 같은 토큰에 같은 Jwt 인스턴스를 돌려주므로, 클레임 해석 결과를 Jwt 참조 기준(weakKeys)으로
+ * 보관해 토큰당 한 번만 계산한다. Jwt가 디코더 캐시에서 빠지면 이 항목도 GC 대상이 된다.
+ */
+public class CoupleAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+    private final Cache<Jwt, Resolved> resolved = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    @Override
+    public AbstractAuthenticationToken convert(@NonNull Jwt jwt) {
+        Resolved claims = resolved.get(jwt, this::resolve);
+        return new CoupleAuthenticationToken(jwt, claims.principal(), claims.authorities());
+    }
+
+    private Resolved resolve(Jwt jwt) {
+        return new Resolved(CouplePrincipal.from(jwt), List.copyOf(authoritiesConverter.convert(jwt)));
+    }
+
+    private record Resolved(CouplePrincipal principal, Collection<GrantedAuthority> authorities) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.course.jwt;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+
+/**
+ * 검증된 JWT와 CouplePrincipal을 담는 인증 객체 - 컨트롤러는 CouplePrincipal만 주입받는다.
+ */
+public class CoupleAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final CouplePrincipal principal;
+    private final Jwt token;
+
+    public CoupleAuthenticationToken(Jwt token, CouplePrincipal principal,
+                                     Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.principal = principal;
+        this.token = token;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public CouplePrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Jwt getCredentials() {
+        return token;
+    }
+
+    public Jwt getToken() {
+        return token;
+    }
+
+    @Override
+    public String getName() {
+        return token.getSubject() != null ? token.getSubject() : principal.userId();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.course.jwt;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Map;
+
+/**
+ * 인증 시 JWT 클레임에서 한 번만 추출한 사용자/커플 식별자 (클레임이 없거나 비어 있으면 null)
+ */
+public record CouplePrincipal(String userId, String coupleId) {
+
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String COUPLE_ID_CLAIM = "coupleId";
+
+    public static CouplePrincipal from(Jwt jwt) {
+        Map<String, Object> claims = jwt.getClaims();
+        return new CouplePrincipal(claimAsId(claims.get(USER_ID_CLAIM)), claimAsId(claims.get(COUPLE_ID_CLAIM)));
+    }
+
+    /**
+     * 식별자 클레임 값 변환 - 공백 제거한 문자열 또는 양수 숫자만 허용, 그 외는 null
+     */
+    public static String claimAsId(Object value) {
+        if (value instanceof String stringValue) {
+            String trimmed = stringValue.trim();
+            return !trimmed.isEmpty() ? trimmed : null;
+        }
+        if (value instanceof Number number) {
+            long converted = number.longValue();
+            return converted > 0 ? Long.toString(converted) : null;
+        }
+        return null;
+    }
+}
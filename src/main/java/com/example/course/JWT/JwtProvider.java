@@ -1,6 +1,8 @@
 package com.example.course.jwt;
 
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +17,8 @@ import org.springframework.util.StringUtils;
 import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 
 @Getter
 @Slf4j
@@ -35,14 +39,21 @@ public class JwtProvider {
         return authorizationHeader.substring(BEARER_PREFIX.length());
     }
 
-    public JwtProvider(@Value("${jwt.secret}") String secret) {
+    public JwtProvider(@Value("${jwt.secret}") String secret,
+                       @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+                       @Value("${jwt.cache.max-ttl:PT10M}") Duration cacheMaxTtl,
+                       MeterRegistry meterRegistry) {
         if (!StringUtils.hasText(secret)) {
             throw new IllegalArgumentException("JWT secret must not be blank");
         }
         SecretKey key = buildSecretKey(secret);
-        this.jwtDecoder = NimbusJwtDecoder.withSecretKey(key)
+        JwtDecoder verifyingDecoder = NimbusJwtDecoder.withSecretKey(key)
                 .macAlgorithm(MacAlgorithm.HS256)
                 .build();
+        // 같은 토큰의 반복 요청은 HMAC 검증과 클레임 파싱 없이 캐시된 Jwt 사용
+        CachingJwtDecoder cachingDecoder = new CachingJwtDecoder(verifyingDecoder, cacheMaximumSize, cacheMaxTtl, Clock.systemUTC());
+        CaffeineCacheMetrics.monitor(meterRegistry, cachingDecoder.cache(), "jwt");
+        this.jwtDecoder = cachingDecoder;
     }
 
     private SecretKey buildSecretKey(String secret) {
@@ -60,7 +71,7 @@ public class JwtProvider {
     }
 
     public String extractCoupleId(Jwt jwt) {
-        return getClaimAsString(jwt, "coupleId");
+        return getClaimAsString(jwt, CouplePrincipal.COUPLE_ID_CLAIM);
     }
 
     public String extractCoupleId(String authorizationHeader) {
@@ -69,13 +80,13 @@ public class JwtProvider {
     }
 
     public String getCoupleIdFromToken(String token) {
-        return getClaimAsString(token, "coupleId");
+        return getClaimAsString(token, CouplePrincipal.COUPLE_ID_CLAIM);
     }
 
     private String getClaimAsString(String token, String claimName) {
         try {
             Jwt jwt = jwtDecoder.decode(token);
-            log.info("{} JWT 디코딩 성공 claim={} 포함여부={}", LOG_PREFIX, claimName, jwt.getClaims().containsKey(claimName));
+            log.debug("{} JWT 디코딩 성공 claim={} 포함여부={}", LOG_PREFIX, claimName, jwt.getClaims().containsKey(claimName));
             return getClaimAsString(jwt, claimName);
         } catch (JwtException ex) {
             log.warn("{} JWT 디코딩 실패 message={}", LOG_PREFIX, ex.getMessage());
@@ -85,23 +96,12 @@ public class JwtProvider {
 
     private String getClaimAsString(Jwt jwt, String claimName) {
         Object claimValue = jwt.getClaims().get(claimName);
-        if (claimValue instanceof String stringValue) {
-            String trimmed = stringValue.trim();
-            if (StringUtils.hasText(trimmed)) {
-                return trimmed;
-            }
-            log.warn("{} JWT claim이 비어 있음 claim={}", LOG_PREFIX, claimName);
-        } else if (claimValue instanceof Number number) {
-            long converted = number.longValue();
-            if (converted > 0) {
-                log.warn("{} JWT claim이 문자열이 아닌 숫자 형식 claim={}", LOG_PREFIX, claimName);
-                return Long.toString(converted);
-            }
-            log.warn("{} JWT claim 숫자 값이 0 이하 claim={}", LOG_PREFIX, claimName);
-        } else {
-            log.warn("{} JWT claim 타입이 예상과 다름 claim={} valueType={}", LOG_PREFIX, claimName,
+        String value = CouplePrincipal.claimAsId(claimValue);
+        if (value == null) {
+            log.warn("{} JWT claim이 없거나 비어 있음 claim={} valueType={}", LOG_PREFIX, claimName,
                     claimValue != null ? claimValue.getClass().getName() : "null");
+            throw new IllegalArgumentException(claimName + " claim is missing or blank in JWT");
         }
-        throw new IllegalArgumentException(claimName + " claim is missing or blank in JWT");
+        return value;
     }
 }
@@ -1,12 +1,26 @@
 package com.example.course.api.controller;
 
+import com.example.course.api.dto.Requset.BulkDeleteCourseRequest;
 import com.example.course.api.dto.Requset.CreateCourseRequest;
 import com.example.course.api.dto.Requset.UpdateCourseReviewRequest;
+import com.example.course.api.dto.Response.BulkDeleteResponse;
+import com.example.course.api.dto.Response.CourseJobResponse;
 import com.example.course.api.dto.Response.CourseResponse;
+import com.example.course.api.dto.Response.PoiOpenStatusResponse;
 import com.example.course.api.dto.Response.StatusResponse;
+import com.example.course.jwt.CouplePrincipal;
+import com.example.course.repository.CourseQueryRepository.CourseListVersion;
+import com.example.course.service.CourseIdempotencyService;
+import com.example.course.service.CourseIngestService;
+import com.example.course.service.CourseIngestService.CourseJob;
+import com.example.course.service.CoursePage;
 import com.example.course.service.CourseService;
+import com.example.course.service.CourseService.BulkDeleteResult;
+import com.example.course.service.CourseService.CourseListPage;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,15 +29,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.net.URI;
 import java.util.List;
-import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,25 +51,42 @@ import org.slf4j.LoggerFactory;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseIngestService courseIngestService;
+    private final CourseIdempotencyService courseIdempotencyService;
     private static final String LOGIN_REQUIRED_MESSAGE = "로그인 후 진행해주세요.";
     private static final Logger log = LoggerFactory.getLogger(CourseController.class);
     private static final String LOG_PREFIX = "[CourseController]";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService,
+                            CourseIngestService courseIngestService,
+                            CourseIdempotencyService courseIdempotencyService) {
         this.courseService = courseService;
+        this.courseIngestService = courseIngestService;
+        this.courseIdempotencyService = courseIdempotencyService;
     }
 
     @PostMapping(value = "/courses", consumes = "application/json")
-    @ResponseStatus(HttpStatus.CREATED)
     @Operation(
             summary = "Create a new course",
-            description = "Creates a course for the authenticated couple.",
+            description = "Creates a course for the authenticated couple. "
+                    + "With `async=true` the request is validated, queued and answered with 202 and a job id; "
+                    + "poll the Location header (GET /api/courses/jobs/{jobId}) for the outcome. "
+                    + "Accepted jobs are stored, so any instance can report them and a job interrupted by a restart "
+                    + "is picked up again by another instance; it still creates at most one course. "
+                    + "With an `Idempotency-Key` header, a retry of the same request by the same couple returns the original "
+                    + "result (marked `Idempotent-Replayed: true`) instead of creating another course.",
             security = {@SecurityRequirement(name = "bearerAuth")}
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "201",
                     description = "Course created",
+                    headers = @Header(name = IDEMPOTENT_REPLAYED_HEADER, description = "true when the response replays an earlier request with the same Idempotency-Key"),
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = StatusResponse.class),
@@ -64,7 +96,19 @@ public class CourseController {
                             )
                     )
             ),
-            @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content)
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Course creation queued (async=true)",
+                    headers = @Header(name = "Location", description = "Job status URL"),
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CourseJobResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used with a different request body", content = @Content),
+            @ApiResponse(responseCode = "429", description = "Ingest queue is full (async=true); retry later", content = @Content)
     })
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "Course creation payload",
@@ -77,26 +121,80 @@ public class CourseController {
                     )
             )
     )
-    public StatusResponse createCourse(
-            @AuthenticationPrincipal Jwt jwt,
+    public ResponseEntity<?> createCourse(
+            @Parameter(hidden = true) CouplePrincipal principal,
+            @Parameter(description = "Queue the creation and return 202 with a job id instead of waiting for it")
+            @RequestParam(defaultValue = "false") boolean async,
+            @Parameter(description = "Client-generated key (max " + CourseIdempotencyService.MAX_KEY_LENGTH + " chars) that makes retries safe")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateCourseRequest request
     ) {
-        String coupleId = requireCoupleId(jwt);
+        String coupleId = principal.coupleId();
+        if (idempotencyKey != null) {
+            if (async) {
+                throw new IllegalArgumentException(IDEMPOTENCY_KEY_HEADER + " is not supported with async=true");
+            }
+            CourseIdempotencyService.Outcome outcome = courseIdempotencyService.createCourse(coupleId, idempotencyKey, request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(outcome.replayed()))
+                    .body(StatusResponse.success());
+        }
+        if (async) {
+            CourseJob job = courseIngestService.submit(coupleId, request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/courses/jobs/" + job.jobId()))
+                    .body(CourseJobResponse.from(job));
+        }
         courseService.createCourse(coupleId, request);
-        return StatusResponse.success();
+        return ResponseEntity.status(HttpStatus.CREATED).body(StatusResponse.success());
     }
 
-    @GetMapping("/courses")
+    @GetMapping("/courses/jobs/{jobId}")
     @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Get asynchronous course creation status",
+            description = "Returns the status of a job accepted by `POST /api/courses?async=true`. "
+                    + "Jobs are stored in the database and can be read from any instance; finished jobs are kept "
+                    + "for a limited time (course.async-create.job-ttl).",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job status retrieved",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CourseJobResponse.class),
+                            examples = @ExampleObject(value = "{\n  \"jobId\": \"3f1c2a9e-5b7d-4e2a-9c1f-0a8b6d4e7f21\",\n  \"status\": \"SUCCEEDED\",\n  \"courseId\": \"1\"\n}")
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired", content = @Content)
+    })
+    public CourseJobResponse getCourseJob(
+            @Parameter(hidden = true) CouplePrincipal principal,
+            @PathVariable String jobId
+    ) {
+        return CourseJobResponse.from(courseIngestService.findJob(principal.coupleId(), jobId));
+    }
+
+    @GetMapping("/courses")
     @Operation(
             summary = "List courses",
-            description = "Returns all courses for the authenticated couple including their POI details.",
+            description = "Returns the courses of the authenticated couple, newest first. "
+                    + "Without `cursor` and `size` the whole list is returned, as before paging was added. "
+                    + "With `size` a single page is returned; pass the X-Next-Cursor response header back as `cursor` "
+                    + "to read the next page (default size " + CourseService.DEFAULT_PAGE_SIZE + "). "
+                    + "`view=summary` omits POI details and returns CourseSummaryResponse items.",
             security = {@SecurityRequirement(name = "bearerAuth")}
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Courses retrieved",
+                    headers = {
+                            @Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page, absent on the last page"),
+                            @Header(name = "ETag", description = "Strong validator of this page; send it back as If-None-Match")
+                    },
                     content = @Content(
                             mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = CourseResponse.class)),
@@ -106,16 +204,77 @@ public class CourseController {
                             )
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "Courses unchanged since the If-None-Match ETag", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, size or view", content = @Content),
             @ApiResponse(responseCode = "404", description = "Courses not found for couple", content = @Content)
     })
-    public List<CourseResponse> getCourses(
-            @AuthenticationPrincipal Jwt jwt
+    public ResponseEntity<List<?>> getCourses(
+            @Parameter(hidden = true) CouplePrincipal principal,
+            @Parameter(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + CourseService.MAX_PAGE_SIZE + "); omit it together with cursor to get every course")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "Response view: full (default) or summary")
+            @RequestParam(defaultValue = VIEW_FULL) String view,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
-        String coupleId = requireCoupleId(jwt);
-        return courseService.findCoursesByCoupleId(coupleId)
-                .stream()
-                .map(CourseResponse::from)
-                .toList();
+        String coupleId = principal.coupleId();
+        boolean summary = VIEW_SUMMARY.equalsIgnoreCase(view);
+        if (!summary && !VIEW_FULL.equalsIgnoreCase(view)) {
+            throw new IllegalArgumentException("view must be one of [full, summary]: " + view);
+        }
+
+        // If-None-Match가 현재 목록 버전과 일치하면 코스를 조회하지 않고 304 반환
+        CourseListVersion version = courseService.findCourseListVersion(coupleId, cursor, size);
+        if (webRequest.checkNotModified(CourseService.courseListETag(version, view, cursor, size))) {
+            log.debug("{} 코스 목록 변경 없음 - 304 반환 coupleId={}", LOG_PREFIX, coupleId);
+            return null;
+        }
+
+        // ETag는 실제로 반환하는 페이지를 읽은 시점의 버전으로 계산
+        CourseListPage<?> listPage = summary
+                ? courseService.findCourseSummaryPage(coupleId, cursor, size, version)
+                : courseService.findCoursePage(coupleId, cursor, size, version);
+        CoursePage<?> page = listPage.page();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(CourseService.courseListETag(listPage.version(), view, cursor, size))
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    @GetMapping("/courses/{courseId}/open-status")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Check which course stops are open",
+            description = "Returns, for every POI of the course in order, whether it is open on `day` at `time`. "
+                    + "Ranges past midnight (e.g. 22:00-02:00) and 24:00 closing times are taken into account.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Open status retrieved",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = PoiOpenStatusResponse.class))
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid day or time", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Course not found", content = @Content)
+    })
+    public List<PoiOpenStatusResponse> getCourseOpenStatus(
+            @Parameter(hidden = true) CouplePrincipal principal,
+            @PathVariable String courseId,
+            @Parameter(description = "Day of week (mon-sun)", example = "sat")
+            @RequestParam String day,
+            @Parameter(description = "Time of day (HH:mm)", example = "21:00")
+            @RequestParam String time
+    ) {
+        String coupleId = principal.coupleId();
+        return courseService.findOpenStatus(coupleId, courseId, day, time);
     }
 
     @DeleteMapping("/courses/{courseId}")
@@ -141,14 +300,43 @@ public class CourseController {
             @ApiResponse(responseCode = "404", description = "Course not found", content = @Content)
     })
     public StatusResponse deleteCourse(
-            @AuthenticationPrincipal Jwt jwt,
+            @Parameter(hidden = true) CouplePrincipal principal,
             @PathVariable String courseId
     ) {
-        String coupleId = requireCoupleId(jwt);
+        String coupleId = principal.coupleId();
         courseService.deleteCourse(coupleId, courseId);
         return StatusResponse.success();
     }
 
+    @PostMapping(value = "/courses/bulk-delete", consumes = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Delete several courses",
+            description = "Deletes up to " + CourseService.MAX_BULK_DELETE_SIZE + " courses of the authenticated couple in one request. "
+                    + "Duplicate ids count once in `requested`; ids that do not exist or belong to another couple "
+                    + "are skipped and not counted in `deleted`.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Courses deleted",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkDeleteResponse.class),
+                            examples = @ExampleObject(value = "{\n  \"status\": \"success\",\n  \"requested\": 3,\n  \"deleted\": 2\n}")
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Empty, blank or too many course ids", content = @Content)
+    })
+    public BulkDeleteResponse deleteCourses(
+            @Parameter(hidden = true) CouplePrincipal principal,
+            @Valid @RequestBody BulkDeleteCourseRequest request
+    ) {
+        BulkDeleteResult result = courseService.deleteCourses(principal.coupleId(), request.courseIds());
+        return BulkDeleteResponse.success(result.requested(), result.deleted());
+    }
+
     @PatchMapping(value = "/courses/{courseId}/review", consumes = "application/json")
     @ResponseStatus(HttpStatus.OK)
     @Operation(
@@ -171,51 +359,22 @@ public class CourseController {
             @ApiResponse(responseCode = "404", description = "Course not found", content = @Content)
     })
     public StatusResponse updateCourseReview(
-            @AuthenticationPrincipal Jwt jwt,
+            @Parameter(hidden = true) CouplePrincipal principal,
             @PathVariable String courseId,
             @Valid @RequestBody UpdateCourseReviewRequest request
     ) {
-        String userId = requireUserId(jwt);
-        String coupleId = requireCoupleId(jwt);
+        String userId = requireUserId(principal);
+        String coupleId = principal.coupleId();
         courseService.updateReviewScore(userId, coupleId, courseId, request.reviewScore());
         return StatusResponse.success();
     }
 
-    private String requireUserId(Jwt jwt) {
-        return extractRequiredId(jwt, List.of("userId"));
-    }
-
-    private String requireCoupleId(Jwt jwt) {
-        return extractRequiredId(jwt, List.of("coupleId"));
-    }
-
-    private String extractRequiredId(Jwt jwt, List<String> claimKeys) {
-        if (jwt == null) {
-            log.warn("{} JWT 주체가 없어 401 반환", LOG_PREFIX);
+    private String requireUserId(CouplePrincipal principal) {
+        if (principal.userId() == null) {
+            log.warn("{} 필수 claim 누락 claim={} → 401", LOG_PREFIX, CouplePrincipal.USER_ID_CLAIM);
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, LOGIN_REQUIRED_MESSAGE);
         }
-        Map<String, Object> claims = jwt.getClaims();
-        for (String key : claimKeys) {
-            Object raw = claims.get(key);
-            String value = toNonBlankString(raw);
-            if (value != null) {
-                return value;
-            }
-        }
-        log.warn("{} 필수 claim 누락 claims={} requiredKeys={} → 401", LOG_PREFIX, claims.keySet(), claimKeys);
-        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, LOGIN_REQUIRED_MESSAGE);
-    }
-
-    private String toNonBlankString(Object value) {
-        if (value instanceof String stringValue) {
-            String trimmed = stringValue.trim();
-            return !trimmed.isEmpty() ? trimmed : null;
-        }
-        if (value instanceof Number number) {
-            long converted = number.longValue();
-            return converted > 0 ? Long.toString(converted) : null;
-        }
-        return null;
+        return principal.userId();
     }
 
 }
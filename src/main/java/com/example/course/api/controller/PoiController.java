@@ -0,0 +1,79 @@
+package com.example.course.api.controller;
+
+import com.example.course.api.dto.Response.NearbyPoiResponse;
+import com.example.course.domain.Category;
+import com.example.course.service.PoiSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/pois", produces = "application/json")
+@Validated
+@Tag(name = "POI", description = "POI search APIs")
+public class PoiController {
+
+    private final PoiSearchService poiSearchService;
+
+    public PoiController(PoiSearchService poiSearchService) {
+        this.poiSearchService = poiSearchService;
+    }
+
+    @GetMapping("/nearby")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Find nearby POIs",
+            description = "Returns POIs within `radius` meters of the given point, nearest first. "
+                    + "`openDay` and `openTime` keep only POIs open at that time, including ranges past midnight.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "POIs retrieved",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = NearbyPoiResponse.class))
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid coordinates, radius, open time or limit", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "503", description = "POI index is still loading", content = @Content)
+    })
+    public List<NearbyPoiResponse> findNearby(
+            @Parameter(description = "Latitude of the center point", example = "37.56231")
+            @RequestParam double lat,
+            @Parameter(description = "Longitude of the center point", example = "126.92501")
+            @RequestParam double lng,
+            @Parameter(description = "Search radius in meters (1-" + PoiSearchService.MAX_RADIUS_METERS + ")")
+            @RequestParam(defaultValue = "" + PoiSearchService.DEFAULT_RADIUS_METERS) int radius,
+            @Parameter(description = "Category filter, e.g. CAFE")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "Indoor filter")
+            @RequestParam(required = false) Boolean indoor,
+            @Parameter(description = "Only POIs open on this day (mon-sun); requires openTime", example = "sat")
+            @RequestParam(required = false) String openDay,
+            @Parameter(description = "Only POIs open at this time (HH:mm); requires openDay", example = "21:00")
+            @RequestParam(required = false) String openTime,
+            @Parameter(description = "Maximum number of POIs (1-" + PoiSearchService.MAX_LIMIT + ")")
+            @RequestParam(defaultValue = "" + PoiSearchService.DEFAULT_LIMIT) int limit
+    ) {
+        Category categoryFilter = category != null && !category.isBlank() ? Category.from(category) : null;
+        return poiSearchService.findNearby(lat, lng, radius, categoryFilter, indoor, openDay, openTime, limit);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.course.api.dto.Requset;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "Payload for deleting several courses at once")
+public record BulkDeleteCourseRequest(
+    @NotEmpty
+    @Size(max = 100)
+    @ArraySchema(schema = @Schema(description = "Course id", example = "0f8fad5b-d9cb-469f-a165-70867728950e"))
+    List<String> courseIds
+) {}
@@ -88,29 +88,5 @@ public record CreateCourseRequest(
         @Schema(description = "External link", example = "https://example.com")
         String link
     ) {
-        // 데이터 정규화 로직
-        public PoiItem normalizeData() {
-            // moodTag가 "0"이면 기본값으로 처리
-            String normalizedMoodTag = "0".equals(this.moodTag) ? "default" : this.moodTag;
-            
-            // alcohol이 null이면 0으로 처리
-            Integer normalizedAlcohol = this.alcohol != null ? this.alcohol : 0;
-            
-            return new PoiItem(
-                this.seq,
-                this.name,
-                this.category,
-                this.lat,
-                this.lng,
-                this.indoor,
-                this.priceLevel,
-                this.openHours,
-                normalizedAlcohol,
-                normalizedMoodTag,
-                this.foodTag,
-                this.ratingAvg,
-                this.link
-            );
-        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.example.course.api.dto.Response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of a bulk course deletion")
+public record BulkDeleteResponse(
+    @Schema(description = "Operation result", example = "success")
+    String status,
+    @Schema(description = "Number of distinct course ids requested", example = "3")
+    int requested,
+    @Schema(description = "Number of courses actually deleted; ids of other couples or unknown ids are skipped", example = "2")
+    int deleted
+) {
+    public static BulkDeleteResponse success(int requested, int deleted) {
+        return new BulkDeleteResponse("success", requested, deleted);
+    }
+}
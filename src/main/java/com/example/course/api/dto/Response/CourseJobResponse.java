@@ -0,0 +1,27 @@
+package com.example.course.api.dto.Response;
+
+import com.example.course.service.CourseIngestService.CourseJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Status of an asynchronous course creation job")
+public record CourseJobResponse(
+    @Schema(description = "Job id", example = "3f1c2a9e-5b7d-4e2a-9c1f-0a8b6d4e7f21")
+    String jobId,
+    @Schema(description = "QUEUED, RUNNING, SUCCEEDED or FAILED", example = "SUCCEEDED")
+    String status,
+    @Schema(description = "Id of the created course, present once the job succeeded", example = "1")
+    String courseId,
+    @Schema(description = "Failure reason, present once the job failed")
+    String error,
+    @Schema(description = "When the request was accepted")
+    Instant submittedAt,
+    @Schema(description = "When the job finished, absent while queued or running")
+    Instant completedAt
+) {
+    public static CourseJobResponse from(CourseJob job) {
+        return new CourseJobResponse(job.jobId(), job.status().name(), job.courseId(), job.error(),
+                job.submittedAt(), job.completedAt());
+    }
+}
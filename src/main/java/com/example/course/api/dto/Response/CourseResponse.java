@@ -104,7 +104,7 @@ public record CourseResponse(
         @Schema(description = "Average rating", example = "4.3")
         Double ratingAvg
     ) {
-        private static PoiResponse from(Poi poi) {
+        public static PoiResponse from(Poi poi) {
             return new PoiResponse(
                     poi.getId(),
                     poi.getName(),
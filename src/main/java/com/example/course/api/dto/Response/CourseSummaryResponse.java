@@ -0,0 +1,38 @@
+package com.example.course.api.dto.Response;
+
+import com.example.course.repository.CourseSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Course summary without POI details")
+public record CourseSummaryResponse(
+    @Schema(description = "Identifier of the course", example = "\"1\"")
+    String courseId,
+
+    @Schema(description = "Course title", example = "주말 데이트 코스")
+    String title,
+
+    @Schema(description = "Course description", example = "서울숲 산책과 카페 방문 코스")
+    String description,
+
+    @Schema(description = "Course score", example = "10")
+    Long score,
+
+    @Schema(description = "Number of POIs in the course", example = "3")
+    Integer poiCount,
+
+    @Schema(description = "Creation time of the course", example = "2025-01-01T12:00:00Z")
+    Instant createdAt
+) {
+    public static CourseSummaryResponse from(CourseSummary summary) {
+        return new CourseSummaryResponse(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getDescription(),
+                summary.getScore(),
+                summary.getPoiCount(),
+                summary.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.course.api.dto.Response;
+
+import com.example.course.api.dto.Response.CourseResponse.PoiResponse;
+import com.example.course.domain.Poi;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "POI found near the requested point")
+public record NearbyPoiResponse(
+    @Schema(description = "Great-circle distance from the requested point in meters", example = "412.7")
+    double distanceMeters,
+
+    @Schema(description = "POI details")
+    PoiResponse poi
+) {
+    public static NearbyPoiResponse of(Poi poi, double distanceMeters) {
+        return new NearbyPoiResponse(Math.round(distanceMeters * 10) / 10.0, PoiResponse.from(poi));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.course.api.dto.Response;
+
+import com.example.course.domain.OpenHoursSchedule;
+import com.example.course.domain.PoiSet;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Whether a course stop is open at the requested time")
+public record PoiOpenStatusResponse(
+    @Schema(description = "Identifier of the POI set", example = "11")
+    Long poiSetId,
+
+    @Schema(description = "Order of the POI within the course", example = "1")
+    Integer order,
+
+    @Schema(description = "Identifier of the POI", example = "101")
+    Long poiId,
+
+    @Schema(description = "POI name", example = "Blue Bottle Yeonnam")
+    String name,
+
+    @Schema(description = "true if open, false if closed, null if the POI has no opening hours", example = "true", nullable = true)
+    Boolean open
+) {
+    public static PoiOpenStatusResponse of(PoiSet poiSet, int minuteOfWeek) {
+        OpenHoursSchedule schedule = poiSet.getPoi().getOpenSchedule();
+        return new PoiOpenStatusResponse(
+                poiSet.getId(),
+                poiSet.getOrderIndex(),
+                poiSet.getPoi().getId(),
+                poiSet.getPoi().getName(),
+                schedule != null ? schedule.isOpenAt(minuteOfWeek) : null
+        );
+    }
+}
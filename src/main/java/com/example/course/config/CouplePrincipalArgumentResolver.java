@@ -0,0 +1,45 @@
+package com.example.course.config;
+
+import com.example.course.jwt.CouplePrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Injects the {@link CouplePrincipal} built during JWT authentication into controller methods.
+ * Every course endpoint is couple-scoped, so a missing token or coupleId claim is rejected with 401 here.
+ */
+public class CouplePrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(CouplePrincipalArgumentResolver.class);
+    private static final String LOG_PREFIX = "[CouplePrincipalArgumentResolver]";
+    private static final String LOGIN_REQUIRED_MESSAGE = "로그인 후 진행해주세요.";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == CouplePrincipal.class;
+    }
+
+    @Override
+    public CouplePrincipal resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                           NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CouplePrincipal principal)) {
+            log.warn("{} JWT 주체가 없어 401 반환", LOG_PREFIX);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, LOGIN_REQUIRED_MESSAGE);
+        }
+        if (principal.coupleId() == null) {
+            log.warn("{} 필수 claim 누락 claim={} → 401", LOG_PREFIX, CouplePrincipal.COUPLE_ID_CLAIM);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, LOGIN_REQUIRED_MESSAGE);
+        }
+        return principal;
+    }
+}
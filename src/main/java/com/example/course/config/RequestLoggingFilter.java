@@ -16,52 +16,104 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Adds a request identifier to MDC and logs key authentication-related fields
- * so 401 root causes can be tracked end-to-end.
+ * Adds a request identifier to MDC and writes one summary line per request (status, duration, SQL count).
+ * Authentication details are logged at DEBUG only for sampled requests (course.request-logging.sample-rate)
+ * and for failed ones, so 401 root causes stay traceable without a per-request logging cost.
+ * A client-supplied X-Request-Id is reused only if it is short and limited to [A-Za-z0-9._-], since it is
+ * echoed in the response and written to every log line of the request.
  */
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(RequestLoggingFilter.class);
     private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    static final int MAX_REQUEST_ID_LENGTH = 64;
     private static final String LOG_PREFIX = "[RequestLoggingFilter]";
 
+    private final double sampleRate;
+
+    public RequestLoggingFilter(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long startTime = System.nanoTime();
         String requestId = resolveRequestId(request);
         MDC.put(REQUEST_ID_HEADER, requestId);
         response.setHeader(REQUEST_ID_HEADER, requestId);
-        boolean hasAuthorizationHeader = StringUtils.hasText(request.getHeader(HttpHeaders.AUTHORIZATION));
-        log.info("{} 요청 수신 method={} path={} requestId={} authorizationHeader존재={}",
-                LOG_PREFIX, request.getMethod(), request.getRequestURI(), requestId, hasAuthorizationHeader);
+        boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        Exception failure = null;
         try {
             filterChain.doFilter(request, response);
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.isAuthenticated()) {
-                log.info("{} 인증 완료 requestId={} principal={} authorities={}",
-                        LOG_PREFIX, requestId, authentication.getName(), authentication.getAuthorities());
-            } else {
-                log.info("{} 인증 미수립 requestId={}", LOG_PREFIX, requestId);
-            }
-        } catch (Exception ex) {
-            log.warn("{} 요청 처리 중 예외 발생 method={} path={} requestId={} status={} message={}",
-                    LOG_PREFIX, request.getMethod(), request.getRequestURI(), requestId, response.getStatus(), ex.getMessage());
+        } catch (IOException | ServletException | RuntimeException ex) {
+            failure = ex;
             throw ex;
         } finally {
-            log.info("{} 요청 종료 method={} path={} requestId={} status={}",
-                    LOG_PREFIX, request.getMethod(), request.getRequestURI(), requestId, response.getStatus());
+            // the exception has not reached the container yet, which will answer it with 500
+            int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            boolean failed = failure != null || status >= 400;
+            if ((sampled || failed) && log.isDebugEnabled()) {
+                logDetail(request, requestId, failure);
+            }
+            SqlStatistics.Snapshot sql = SqlStatistics.current();
+            long durationMs = (System.nanoTime() - startTime) / 1_000_000;
+            if (failure != null) {
+                log.warn("{} method={} path={} status={} durationMs={} sql={} requestId={} error={}",
+                        LOG_PREFIX, request.getMethod(), request.getRequestURI(), status, durationMs,
+                        sql != null ? sql.statements() : -1, requestId, failure.toString());
+            } else {
+                log.info("{} method={} path={} status={} durationMs={} sql={} requestId={}",
+                        LOG_PREFIX, request.getMethod(), request.getRequestURI(), status, durationMs,
+                        sql != null ? sql.statements() : -1, requestId);
+            }
             MDC.remove(REQUEST_ID_HEADER);
         }
     }
 
+    private void logDetail(HttpServletRequest request, String requestId, Exception failure) {
+        boolean hasAuthorizationHeader = StringUtils.hasText(request.getHeader(HttpHeaders.AUTHORIZATION));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated();
+        log.debug("{} 요청 상세 requestId={} authorizationHeader존재={} 인증여부={} principal={} 예외={}",
+                LOG_PREFIX, requestId, hasAuthorizationHeader, authenticated,
+                authenticated ? authentication.getName() : null, failure != null ? failure.getMessage() : null);
+    }
+
     private String resolveRequestId(HttpServletRequest request) {
         String header = request.getHeader(REQUEST_ID_HEADER);
-        if (StringUtils.hasText(header)) {
+        if (isSafeRequestId(header)) {
             return header;
         }
-        return UUID.randomUUID().toString();
+        return fastRandomUuid();
+    }
+
+    static boolean isSafeRequestId(String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_REQUEST_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '.' || c == '_' || c == '-';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Version 4 UUID layout from ThreadLocalRandom - unique enough for correlation, without SecureRandom contention.
+     */
+    static String fastRandomUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
     }
 }
@@ -1,6 +1,8 @@
 package com.example.course.config;
 
+import com.example.course.jwt.CoupleAuthenticationConverter;
 import com.example.course.jwt.JwtProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -16,8 +18,12 @@ public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
 
-    public SecurityConfig(JwtProvider jwtProvider) {
+    private final double requestLogSampleRate;
+
+    public SecurityConfig(JwtProvider jwtProvider,
+                          @Value("${course.request-logging.sample-rate:0.01}") double requestLogSampleRate) {
         this.jwtProvider = jwtProvider;
+        this.requestLogSampleRate = requestLogSampleRate;
     }
 
     @Bean
@@ -48,13 +54,15 @@ public class SecurityConfig {
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .authenticationEntryPoint(new LoggingAuthenticationEntryPoint(new BearerTokenAuthenticationEntryPoint()))
-                        .jwt(jwt -> jwt.decoder(jwtProvider.getJwtDecoder()))
+                        .jwt(jwt -> jwt
+                                .decoder(jwtProvider.getJwtDecoder())
+                                .jwtAuthenticationConverter(new CoupleAuthenticationConverter()))
                 );
         return http.build();
     }
 
     @Bean
     public RequestLoggingFilter requestLoggingFilter() {
-        return new RequestLoggingFilter();
+        return new RequestLoggingFilter(requestLogSampleRate);
     }
 }
@@ -0,0 +1,82 @@
+package com.example.course.config;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Thread-bound SQL counters (statements executed, time spent in JDBC execute calls).
+ * Scopes nest: a statement is counted in every open scope on the thread, so a test can wrap
+ * a MockMvc call in {@link #measure(Callable)} while {@link SqlStatisticsFilter} measures the same request.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatistics() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Counters of the innermost open scope, or null when nothing is being measured on this thread.
+     */
+    public static Snapshot current() {
+        Scope scope = CURRENT.get();
+        return scope != null ? scope.snapshot() : null;
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void recordStatement(long nanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.nanos += nanos;
+        }
+    }
+
+    /**
+     * Runs the action and returns what it executed, e.g. to assert a query budget:
+     * {@code assertThat(SqlStatistics.measure(() -> mockMvc.perform(get("/api/courses"))).statements()).isLessThanOrEqualTo(3)}
+     */
+    public static Snapshot measure(Callable<?> action) throws Exception {
+        try (Scope scope = open()) {
+            action.call();
+            return scope.snapshot();
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int statements;
+        private long nanos;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public Snapshot snapshot() {
+            return new Snapshot(statements, nanos);
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    public record Snapshot(int statements, long dbNanos) {
+
+        public long dbMillis() {
+            return dbNanos / 1_000_000;
+        }
+    }
+}
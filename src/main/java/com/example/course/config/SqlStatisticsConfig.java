@@ -0,0 +1,80 @@
+package com.example.course.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement counting (course.sql-stats.*), off unless enabled (dev and test profiles).
+ * Wraps the application DataSource, records per-endpoint metrics and optionally echoes the counters
+ * as response headers, which is meant for local/dev profiles only.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "course.sql-stats", name = "enabled", havingValue = "true")
+public class SqlStatisticsConfig {
+
+    static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatisticsDataSource)) {
+                    return new SqlStatisticsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatisticsFilter> sqlStatisticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${course.sql-stats.statement-budget:30}") int statementBudget) {
+        FilterRegistrationBean<SqlStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatisticsFilter(meterRegistry, statementBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * Adds the counters of the current request to responses with a body; 204/304 responses are not annotated.
+     */
+    @RestControllerAdvice
+    @ConditionalOnProperty(prefix = "course.sql-stats", name = "response-headers", havingValue = "true")
+    static class SqlStatisticsResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+        @Override
+        public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+            return true;
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      ServerHttpRequest request, ServerHttpResponse response) {
+            SqlStatistics.Snapshot snapshot = SqlStatistics.current();
+            if (snapshot != null) {
+                response.getHeaders().set(STATEMENTS_HEADER, Integer.toString(snapshot.statements()));
+                response.getHeaders().set(TIME_HEADER, Long.toString(snapshot.dbMillis()));
+            }
+            return body;
+        }
+    }
+}
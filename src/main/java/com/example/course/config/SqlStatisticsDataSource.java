@@ -0,0 +1,84 @@
+package com.example.course.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps connections so that statement executions are reported to {@link SqlStatistics}.
+ * Only Connection and Statement are proxied; result sets are the driver's own objects, so row iteration
+ * pays nothing. Calls made outside an open scope (startup, scheduled jobs) go straight to the driver.
+ * Spring Boot's DataSourceUnwrapper sees through {@link DelegatingDataSource}, so pool metrics keep working.
+ */
+public class SqlStatisticsDataSource extends DelegatingDataSource {
+
+    public SqlStatisticsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (Connection) proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return (Connection) proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static Object proxy(Class<?> type, InvocationHandler handler) {
+        return Proxy.newProxyInstance(SqlStatisticsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+            // compare against the wrapped object so a proxy equals another proxy of the same statement
+            return target == args[0] || (args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                    && Proxy.getInvocationHandler(args[0]) instanceof TargetHolder holder && holder.target() == target);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private interface TargetHolder extends InvocationHandler {
+        Object target();
+    }
+
+    private record ConnectionHandler(Connection target) implements TargetHolder {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatisticsDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                return proxy(method.getReturnType(), new StatementHandler(statement));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target) implements TargetHolder {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!SqlStatistics.isActive() || !method.getName().startsWith("execute")) {
+                return SqlStatisticsDataSource.invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return SqlStatisticsDataSource.invoke(target, method, args);
+            } finally {
+                SqlStatistics.recordStatement(System.nanoTime() - start);
+            }
+        }
+    }
+}
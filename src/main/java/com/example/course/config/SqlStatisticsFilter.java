@@ -0,0 +1,79 @@
+package com.example.course.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the SQL issued while serving each request and publishes it per endpoint
+ * (http.server.requests.sql.statements / .time, tagged like http.server.requests).
+ * Requests that exceed the statement budget are logged as likely N+1 patterns.
+ */
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatisticsFilter.class);
+    private static final String LOG_PREFIX = "[SqlStatisticsFilter]";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatisticsFilter(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatistics.Scope scope = SqlStatistics.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                record(request, scope.snapshot());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics.Snapshot snapshot) {
+        if (snapshot.statements() == 0) {
+            return;
+        }
+        String method = request.getMethod();
+        String uri = resolveUri(request);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(snapshot.statements());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Time spent executing SQL statements per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(snapshot.dbNanos(), TimeUnit.NANOSECONDS);
+        if (snapshot.statements() > statementBudget) {
+            log.warn("{} SQL 실행 횟수 예산 초과 (N+1 의심) method={} uri={} statements={} budget={} dbTime={}ms",
+                    LOG_PREFIX, method, uri, snapshot.statements(), statementBudget, snapshot.dbMillis());
+        }
+    }
+
+    private static String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.course.config;
 
+import com.example.course.api.controller.CourseController;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -18,9 +22,15 @@ public class WebConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                 .allowedHeaders("*")
-                .exposedHeaders("X-User-Id", "X-Couple-Id")
+                .exposedHeaders("X-User-Id", "X-Couple-Id", CourseController.NEXT_CURSOR_HEADER, "ETag", "Location",
+                        CourseController.IDEMPOTENT_REPLAYED_HEADER)
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CouplePrincipalArgumentResolver());
+    }
 }
 
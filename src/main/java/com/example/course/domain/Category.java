@@ -3,7 +3,8 @@ package com.example.course.domain;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
-import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
 
 public enum Category {
     CAFE,
@@ -17,16 +18,22 @@ public enum Category {
     GALLERY,
     OTHER;
 
+    // 대소문자 무시 조회 - 역직렬화마다 values() 복사/스트림을 만들지 않도록 미리 구성
+    private static final Map<String, Category> BY_NAME = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        for (Category category : values()) {
+            BY_NAME.put(category.name(), category);
+        }
+    }
+
     @JsonCreator
     public static Category from(String value) {
-        if (value == null || value.trim().isEmpty()) {
+        if (value == null) {
             return OTHER;
         }
-        
-        return Arrays.stream(values())
-                .filter(category -> category.name().equalsIgnoreCase(value.trim()))
-                .findFirst()
-                .orElse(OTHER); // 존재하지 않는 카테고리는 OTHER로 매핑
+        // 존재하지 않는 카테고리는 OTHER로 매핑
+        return BY_NAME.getOrDefault(value.trim(), OTHER);
     }
 
     @JsonValue
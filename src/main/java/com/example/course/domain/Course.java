@@ -43,6 +43,7 @@ public class Course {
     private Instant updatedAt;
 
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("orderIndex ASC, id ASC")
     private List<PoiSet> poiSets = new ArrayList<>();
 
     public String getId() {
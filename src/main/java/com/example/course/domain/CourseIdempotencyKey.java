@@ -0,0 +1,89 @@
+package com.example.course.domain;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 코스 생성 요청의 Idempotency-Key 기록 - 커플 단위로 키를 구분하며 코스와 같은 트랜잭션에서 저장된다.
+ */
+@Entity
+@Table(name = "course_idempotency_key", indexes = {
+    @Index(name = "idx_course_idempotency_key_created", columnList = "created_at")
+})
+@IdClass(CourseIdempotencyKey.Id.class)
+public class CourseIdempotencyKey {
+
+    @jakarta.persistence.Id
+    @Column(name = "couple_id", length = 100)
+    private String coupleId;
+
+    @jakarta.persistence.Id
+    @Column(name = "idempotency_key", length = 255)
+    private String idempotencyKey;
+
+    /** 요청 본문의 SHA-256 (hex) - 같은 키로 다른 요청을 보냈는지 판별 */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "course_id", nullable = false, length = 100)
+    private String courseId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected CourseIdempotencyKey() {
+    }
+
+    public String getCoupleId() {
+        return coupleId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public static class Id implements Serializable {
+
+        private String coupleId;
+        private String idempotencyKey;
+
+        protected Id() {
+        }
+
+        public Id(String coupleId, String idempotencyKey) {
+            this.coupleId = coupleId;
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Id other)) {
+                return false;
+            }
+            return Objects.equals(coupleId, other.coupleId) && Objects.equals(idempotencyKey, other.idempotencyKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(coupleId, idempotencyKey);
+        }
+    }
+}
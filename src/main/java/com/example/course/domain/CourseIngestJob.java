@@ -0,0 +1,115 @@
+package com.example.course.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * 비동기 코스 생성 작업 기록 - 요청 본문과 상태를 함께 저장해 인스턴스가 사라져도 다른 인스턴스가 이어서 처리한다.
+ * leaseUntil이 지난 QUEUED/RUNNING 작업은 처리하던 인스턴스가 없는 것으로 보고 다시 회수된다.
+ */
+@Entity
+@Table(name = "course_ingest_job", indexes = {
+    @Index(name = "idx_course_ingest_job_lease", columnList = "status, lease_until"),
+    @Index(name = "idx_course_ingest_job_completed", columnList = "completed_at")
+})
+public class CourseIngestJob {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Column(name = "couple_id", nullable = false, length = 100)
+    private String coupleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /** CreateCourseRequest JSON - 회수한 작업을 다시 검증/정규화하는 데 사용 */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private String payload;
+
+    @Column(name = "course_id", length = 100)
+    private String courseId;
+
+    @Column(length = 500)
+    private String error;
+
+    /** 워커 큐에 넣은 횟수 (접수 1회 + 회수 횟수) */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "lease_until", nullable = false)
+    private Instant leaseUntil;
+
+    @Column(name = "submitted_at", nullable = false)
+    private Instant submittedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    protected CourseIngestJob() {
+    }
+
+    /**
+     * 임대가 끝난 작업을 회수 - 횟수를 늘리고 새 임대 기간을 잡는다.
+     */
+    public void renewLease(Instant leaseUntil) {
+        this.attempts++;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void fail(String error, Instant completedAt) {
+        this.status = Status.FAILED;
+        this.error = error;
+        this.completedAt = completedAt;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getCoupleId() {
+        return coupleId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.course.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주간 영업시간을 월요일 00:00 기준 분(minute-of-week) 구간 [시작, 종료) 목록으로 표현.
+ * 구간은 시작 시각 순으로 정렬·병합되어 있어 특정 시각의 영업 여부를 이진 탐색으로 판단한다.
+ * 자정을 넘는 구간(22:00-02:00)은 다음 날로, 일요일에서 넘어가는 구간은 월요일 앞쪽으로 이어진다.
+ */
+public final class OpenHoursSchedule {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    /** openHours 키 순서 = 요일 인덱스 (mon=0 ... sun=6) */
+    public static final List<String> DAYS = List.of("mon", "tue", "wed", "thu", "fri", "sat", "sun");
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int[] ranges;
+
+    private OpenHoursSchedule(int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * 저장된 구간 배열로 복원 (null이면 영업시간 정보 없음)
+     */
+    public static OpenHoursSchedule ofRanges(int[] ranges) {
+        return ranges != null ? new OpenHoursSchedule(ranges) : null;
+    }
+
+    /**
+     * 정규화된 openHours("HH:mm-HH:mm" / "Closed")에서 구간 계산 - open_minutes가 없는 기존 데이터용
+     */
+    public static OpenHoursSchedule fromOpenHours(Map<String, String> openHours) {
+        if (openHours == null || openHours.isEmpty()) {
+            return null;
+        }
+        Builder builder = builder();
+        openHours.forEach((day, range) -> {
+            int dayIndex = dayIndex(day);
+            if (dayIndex < 0 || range == null || range.length() != 11 || range.charAt(5) != '-') {
+                return;
+            }
+            int open = parseMinute(range, 0);
+            int close = parseMinute(range, 6);
+            if (open >= 0 && close >= 0) {
+                builder.add(dayIndex, open, close);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * 요일 문자열(mon..sun, 대소문자 무시)의 인덱스, 알 수 없으면 -1
+     */
+    public static int dayIndex(String day) {
+        return day != null ? DAYS.indexOf(day.trim().toLowerCase()) : -1;
+    }
+
+    /**
+     * "HH:mm"(00:00-24:00) 위치 offset부터 읽어 분 단위로 변환, 형식이 다르면 -1
+     */
+    public static int parseMinute(CharSequence value, int offset) {
+        if (value.length() < offset + 5 || value.charAt(offset + 2) != ':') {
+            return -1;
+        }
+        int hour = digit(value.charAt(offset)) * 10 + digit(value.charAt(offset + 1));
+        int minute = digit(value.charAt(offset + 3)) * 10 + digit(value.charAt(offset + 4));
+        if (hour < 0 || minute < 0 || minute > 59 || hour > 24 || (hour == 24 && minute != 0)) {
+            return -1;
+        }
+        return hour * 60 + minute;
+    }
+
+    /**
+     * 요일/시각 파라미터를 minute-of-week로 변환 (잘못된 값은 IllegalArgumentException)
+     */
+    public static int minuteOfWeek(String day, String time) {
+        int dayIndex = dayIndex(day);
+        if (dayIndex < 0) {
+            throw new IllegalArgumentException("day must be one of " + DAYS + ": " + day);
+        }
+        int minute = time != null && time.length() == 5 ? parseMinute(time, 0) : -1;
+        if (minute < 0 || minute >= MINUTES_PER_DAY) {
+            throw new IllegalArgumentException("time must be HH:mm between 00:00 and 23:59: " + time);
+        }
+        return dayIndex * MINUTES_PER_DAY + minute;
+    }
+
+    public boolean isOpenAt(int minuteOfWeek) {
+        // minuteOfWeek 이하인 마지막 시작점을 찾아 해당 구간의 종료 전인지 확인
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int start = ranges[mid * 2];
+            if (start <= minuteOfWeek) {
+                if (minuteOfWeek < ranges[mid * 2 + 1]) {
+                    return true;
+                }
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return false;
+    }
+
+    public int[] toArray() {
+        return ranges.clone();
+    }
+
+    public boolean isClosedAllWeek() {
+        return ranges.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OpenHoursSchedule schedule && Arrays.equals(ranges, schedule.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -100;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private int[] pending = new int[16];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * 하루 영업 구간 추가 - 종료가 시작 이하이면 다음 날 종료(자정 넘김), 같으면 24시간 영업으로 본다.
+         */
+        public Builder add(int dayIndex, int openMinute, int closeMinute) {
+            int start = dayIndex * MINUTES_PER_DAY + openMinute;
+            int end = dayIndex * MINUTES_PER_DAY + closeMinute;
+            if (closeMinute <= openMinute) {
+                end += MINUTES_PER_DAY;
+            }
+            if (end > MINUTES_PER_WEEK) {
+                append(start, MINUTES_PER_WEEK);
+                append(0, end - MINUTES_PER_WEEK);
+            } else {
+                append(start, end);
+            }
+            return this;
+        }
+
+        public OpenHoursSchedule build() {
+            if (size == 0) {
+                return new OpenHoursSchedule(EMPTY);
+            }
+            // 시작 시각 기준 정렬 (구간 수가 적어 삽입 정렬)
+            for (int i = 2; i < size; i += 2) {
+                int start = pending[i];
+                int end = pending[i + 1];
+                int j = i - 2;
+                while (j >= 0 && pending[j] > start) {
+                    pending[j + 2] = pending[j];
+                    pending[j + 3] = pending[j + 1];
+                    j -= 2;
+                }
+                pending[j + 2] = start;
+                pending[j + 3] = end;
+            }
+            // 겹치거나 맞닿은 구간 병합
+            int merged = 0;
+            for (int i = 0; i < size; i += 2) {
+                if (merged > 0 && pending[i] <= pending[merged - 1]) {
+                    pending[merged - 1] = Math.max(pending[merged - 1], pending[i + 1]);
+                } else {
+                    pending[merged++] = pending[i];
+                    pending[merged++] = pending[i + 1];
+                }
+            }
+            return new OpenHoursSchedule(Arrays.copyOf(pending, merged));
+        }
+
+        private void append(int start, int end) {
+            if (start >= end) {
+                return;
+            }
+            if (size + 2 > pending.length) {
+                pending = Arrays.copyOf(pending, pending.length * 2);
+            }
+            pending[size++] = start;
+            pending[size++] = end;
+        }
+    }
+}
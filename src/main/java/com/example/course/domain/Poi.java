@@ -4,14 +4,18 @@ import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Entity
 @Table(name = "poi", 
@@ -23,6 +27,8 @@ import java.util.Map;
     }
 )
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "poi")
 public class Poi {
 
     @Id
@@ -52,15 +58,19 @@ public class Poi {
     @Column(name = "open_hours", columnDefinition = "jsonb")
     private Map<String, String> openHours = new LinkedHashMap<>();
 
+    /** openHours를 컴파일한 minute-of-week 구간 (OpenHoursSchedule 참고), null이면 영업시간 정보 없음 */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "open_minutes", columnDefinition = "integer[]")
+    private int[] openMinutes;
+
     private Integer alcohol;
 
     @Column(name = "mood_tag", nullable = false, length = 50)
     private String moodTag;
 
-    @ElementCollection
-    @CollectionTable(name = "poi_food_tags", joinColumns = @JoinColumn(name = "poi_id"))
-    @Column(name = "food_tag", length = 30)
-    @OrderColumn(name = "display_order")
+    /** 표시 순서대로의 태그 배열 - poi 행에 함께 저장되어 별도 조인/조회 없이 읽힘 (GIN 인덱스: food_tag @> '["coffee"]') */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "food_tag", columnDefinition = "jsonb")
     private List<String> foodTag = new ArrayList<>();
 
     @Column(name = "rating_avg")
@@ -69,6 +79,10 @@ public class Poi {
     @Column(length = 2048)
     private String link;
 
+    /** 변경 가능한 필드의 해시 (CourseDomainService.normalizePoiData에서 계산), null이면 해시 도입 이전에 기록된 행 */
+    @Column(name = "content_hash", length = 32)
+    private String contentHash;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -137,6 +151,21 @@ public class Poi {
         this.openHours = openHours != null ? new LinkedHashMap<>(openHours) : new LinkedHashMap<>();
     }
 
+    /**
+     * 영업시간 구간 - open_minutes가 없는 기존 데이터는 openHours 문자열에서 계산
+     */
+    public OpenHoursSchedule getOpenSchedule() {
+        return openMinutes != null ? OpenHoursSchedule.ofRanges(openMinutes) : OpenHoursSchedule.fromOpenHours(openHours);
+    }
+
+    public void setOpenSchedule(OpenHoursSchedule openSchedule) {
+        this.openMinutes = openSchedule != null ? openSchedule.toArray() : null;
+    }
+
+    public int[] getOpenMinutes() {
+        return openMinutes;
+    }
+
     public Integer getAlcohol() {
         return alcohol;
     }
@@ -177,6 +206,14 @@ public class Poi {
         this.link = link;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -196,10 +233,31 @@ public class Poi {
         this.indoor = other.indoor;
         this.priceLevel = other.priceLevel;
         this.openHours = other.openHours;
+        this.openMinutes = other.openMinutes;
         this.alcohol = other.alcohol;
         this.moodTag = other.moodTag;
         this.foodTag = other.foodTag;
         this.ratingAvg = other.ratingAvg;
         this.link = other.link;
+        this.contentHash = other.contentHash;
+    }
+
+    /**
+     * 변경 가능한 필드가 다른 POI와 동일한지 확인 - 양쪽 모두 내용 해시가 있으면 해시만 비교한다.
+     */
+    public boolean hasSameContent(Poi other) {
+        if (contentHash != null && other.contentHash != null) {
+            return contentHash.equals(other.contentHash);
+        }
+        return category == other.category
+                && Objects.equals(indoor, other.indoor)
+                && Objects.equals(priceLevel, other.priceLevel)
+                && Objects.equals(openHours, other.openHours)
+                && Arrays.equals(openMinutes, other.openMinutes)
+                && Objects.equals(alcohol, other.alcohol)
+                && Objects.equals(moodTag, other.moodTag)
+                && Objects.equals(foodTag, other.foodTag)
+                && Objects.equals(ratingAvg, other.ratingAvg)
+                && Objects.equals(link, other.link);
     }
 }
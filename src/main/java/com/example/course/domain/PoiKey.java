@@ -0,0 +1,18 @@
+package com.example.course.domain;
+
+import java.util.Comparator;
+
+/**
+ * POI 자연 키 (name, lat, lng) - poi 테이블 유니크 제약과 동일
+ */
+public record PoiKey(String name, Double lat, Double lng) {
+
+    /** 여러 POI를 한 문장으로 기록할 때 행 잠금 순서를 맞추기 위한 정렬 기준 (교착 방지) */
+    public static final Comparator<PoiKey> LOCK_ORDER = Comparator.comparing(PoiKey::name)
+            .thenComparing(PoiKey::lat)
+            .thenComparing(PoiKey::lng);
+
+    public static PoiKey of(Poi poi) {
+        return new PoiKey(poi.getName(), poi.getLat(), poi.getLng());
+    }
+}
@@ -15,7 +15,8 @@ import java.time.Instant;
 public class PoiSet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "poi_set_seq")
+    @SequenceGenerator(name = "poi_set_seq", sequenceName = "poi_set_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
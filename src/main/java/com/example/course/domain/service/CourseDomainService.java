@@ -1,27 +1,29 @@
 package com.example.course.domain.service;
 
 import com.example.course.domain.Course;
+import com.example.course.domain.OpenHoursSchedule;
 import com.example.course.domain.Poi;
 import com.example.course.api.dto.Requset.CreateCourseRequest.PoiItem;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 @Slf4j
 public class CourseDomainService {
 
-    private static final Set<String> VALID_DAYS = Set.of("mon", "tue", "wed", "thu", "fri", "sat", "sun");
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String DEFAULT_MOOD_TAG = "default";
     private static final String LOG_PREFIX = "[CourseDomainService]";
 
     /**
-     * 코스 생성 시 도메인 검증
+     * 코스 생성 시 도메인 검증 (POI 항목별 검증은 normalizePoiData에서 정규화와 함께 수행)
      */
     public void validateCourseCreation(String coupleId, String title, List<PoiItem> poiItems) {
         if (!StringUtils.hasText(coupleId)) {
@@ -33,12 +35,6 @@ public class CourseDomainService {
         if (poiItems == null || poiItems.isEmpty()) {
             throw new IllegalArgumentException("Course must have at least one POI");
         }
-        
-        // POI 검증
-        for (int i = 0; i < poiItems.size(); i++) {
-            PoiItem item = poiItems.get(i);
-            validatePoiItem(item, i);
-        }
     }
 
     /**
@@ -60,8 +56,6 @@ public class CourseDomainService {
         if (item.indoor() == null) {
             throw new IllegalArgumentException("Indoor flag cannot be null at index " + index);
         }
-        
-        // moodTag 검증은 정규화 후에 수행됨
     }
 
     /**
@@ -77,9 +71,10 @@ public class CourseDomainService {
     }
 
     /**
-     * POI 데이터 정규화
+     * POI 검증 및 정규화 - 요청 항목에서 Poi로 한 번에 옮기며 중간 사본을 만들지 않는다.
      */
-    public Poi normalizePoiData(PoiItem item) {
+    public Poi normalizePoiData(PoiItem item, int index) {
+        validatePoiItem(item, index);
         Poi poi = new Poi();
         
         // 필수 필드 설정
@@ -89,38 +84,103 @@ public class CourseDomainService {
         poi.setLng(item.lng());
         poi.setIndoor(item.indoor());
         
-        // 선택적 필드 설정
-        if (item.priceLevel() != null) {
-            poi.setPriceLevel(item.priceLevel());
-        }
-        if (item.alcohol() != null) {
-            poi.setAlcohol(item.alcohol());
-        }
-        if (item.ratingAvg() != null) {
-            poi.setRatingAvg(item.ratingAvg());
-        }
+        // 선택적 필드 설정 (alcohol 미입력은 0)
+        poi.setPriceLevel(item.priceLevel());
+        poi.setAlcohol(item.alcohol() != null ? item.alcohol() : 0);
+        poi.setRatingAvg(item.ratingAvg());
         if (item.openHours() != null) {
-            poi.setOpenHours(sanitizedOpenHours(item.openHours()));
+            poi.setOpenSchedule(sanitizedOpenHours(item.openHours(), poi.getOpenHours()));
         }
         if (item.foodTag() != null) {
-            List<String> sanitizedTags = item.foodTag().stream()
-                    .filter(StringUtils::hasText)
-                    .map(StringUtils::trimWhitespace)
-                    .toList();
-            poi.setFoodTag(sanitizedTags);
+            List<String> sanitizedTags = poi.getFoodTag();
+            for (String tag : item.foodTag()) {
+                if (StringUtils.hasText(tag)) {
+                    sanitizedTags.add(StringUtils.trimWhitespace(tag));
+                }
+            }
         }
         if (item.link() != null) {
-            String normalizedLink = normalizeLink(item.link());
-            poi.setLink(normalizedLink);
+            poi.setLink(normalizeLink(item.link()));
         }
         
         // moodTag 설정 (null 허용)
-        String moodTag = StringUtils.trimWhitespace(item.moodTag());
-        poi.setMoodTag(moodTag);
-        
+        poi.setMoodTag(sanitizeMoodTag(item.moodTag(), index));
+
+        poi.setContentHash(contentHash(poi));
         return poi;
     }
 
+    /**
+     * 정규화된 POI의 변경 가능한 필드 해시 (MD5 hex) - 저장된 해시와 같으면 upsert를 건너뛴다.
+     * openHours는 jsonb처럼 키 순서와 무관하게, foodTag는 표시 순서대로 반영한다.
+     */
+    static String contentHash(Poi poi) {
+        StringBuilder content = new StringBuilder(256);
+        appendField(content, poi.getCategory());
+        appendField(content, poi.getIndoor());
+        appendField(content, poi.getPriceLevel());
+        for (Map.Entry<String, String> entry : new TreeMap<>(poi.getOpenHours()).entrySet()) {
+            appendField(content, entry.getKey());
+            appendField(content, entry.getValue());
+        }
+        appendField(content, poi.getOpenMinutes() != null ? Arrays.toString(poi.getOpenMinutes()) : null);
+        appendField(content, poi.getAlcohol());
+        appendField(content, poi.getMoodTag());
+        appendField(content, poi.getFoodTag().size());
+        for (String tag : poi.getFoodTag()) {
+            appendField(content, tag);
+        }
+        appendField(content, poi.getRatingAvg());
+        appendField(content, poi.getLink());
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendField(StringBuilder content, Object value) {
+        // 필드 구분자(US)와 null 표시(NUL)는 정규화된 값에 나타나지 않음
+        content.append(value != null ? value.toString() : "\u0000").append('\u001f');
+    }
+
+    /**
+     * moodTag 검증 - "0"은 기본값으로 처리, 공백/길이/허용 문자([-문자숫자공백,]) 확인
+     */
+    private String sanitizeMoodTag(String moodTag, int index) {
+        if (moodTag == null) {
+            return null;
+        }
+        if ("0".equals(moodTag)) {
+            return DEFAULT_MOOD_TAG;
+        }
+        String trimmed = moodTag.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("moodTag cannot be blank at index " + index);
+        }
+        if (trimmed.length() > 50) {
+            throw new IllegalArgumentException("moodTag length must be <= 50 at index " + index + ": " + trimmed.length());
+        }
+        for (int i = 0; i < trimmed.length(); ) {
+            int codePoint = trimmed.codePointAt(i);
+            if (!isMoodTagCharacter(codePoint)) {
+                throw new IllegalArgumentException("moodTag contains invalid characters at index " + index + ": " + moodTag);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return trimmed;
+    }
+
+    /**
+     * 정규식 [-\p{L}\p{N}\s,]와 같은 문자 집합
+     */
+    private static boolean isMoodTagCharacter(int codePoint) {
+        if (codePoint == '-' || codePoint == ',' || codePoint == ' ' || (codePoint >= '\t' && codePoint <= '\r')) {
+            return true;
+        }
+        if (Character.isLetter(codePoint)) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.DECIMAL_DIGIT_NUMBER || type == Character.LETTER_NUMBER || type == Character.OTHER_NUMBER;
+    }
+
     /**
      * 링크 정규화
      */
@@ -130,59 +190,61 @@ public class CourseDomainService {
     }
 
     /**
-     * 영업시간 정규화
+     * 영업시간 정규화 - 정규화한 문자열을 target에 담고 minute-of-week 구간을 함께 계산
      */
-    private Map<String, String> sanitizedOpenHours(Map<String, String> openHours) {
-        if (openHours == null || openHours.isEmpty()) {
-            return Map.of();
+    private OpenHoursSchedule sanitizedOpenHours(Map<String, String> openHours, Map<String, String> target) {
+        if (openHours.isEmpty()) {
+            return null;
         }
-        Map<String, String> sanitized = new LinkedHashMap<>();
+        OpenHoursSchedule.Builder schedule = OpenHoursSchedule.builder();
         openHours.forEach((day, rawRange) -> {
             if (day == null || rawRange == null) {
                 log.warn("{} 영업시간 항목 무시 day={} raw={} (null)", LOG_PREFIX, day, rawRange);
                 return;
             }
-            String normalizedDay = day.trim().toLowerCase();
-            if (!VALID_DAYS.contains(normalizedDay)) {
+            int dayIndex = OpenHoursSchedule.dayIndex(day);
+            if (dayIndex < 0) {
                 log.warn("{} 유효하지 않은 요일 값 day={}", LOG_PREFIX, day);
                 return;
             }
+            String normalizedDay = OpenHoursSchedule.DAYS.get(dayIndex);
             String trimmedValue = rawRange.trim();
             if (trimmedValue.equalsIgnoreCase("Closed")) {
-                sanitized.put(normalizedDay, "Closed");
+                target.put(normalizedDay, "Closed");
             } else {
-                sanitized.put(normalizedDay, normalizeTimeRange(trimmedValue));
+                target.put(normalizedDay, normalizeTimeRange(trimmedValue, dayIndex, schedule));
             }
         });
-        return sanitized;
+        return target.isEmpty() ? null : schedule.build();
     }
 
     /**
-     * 시간 범위 정규화
+     * 시간 범위 정규화 - "HH:mm-HH:mm"을 직접 파싱하고, 시작/종료가 모두 유효하면 해당 요일 구간으로 추가
      */
-    private String normalizeTimeRange(String value) {
-        String[] times = value.split("-");
-        if (times.length != 2) {
+    private String normalizeTimeRange(String value, int dayIndex, OpenHoursSchedule.Builder schedule) {
+        int separator = value.indexOf('-');
+        if (separator < 0 || separator != value.lastIndexOf('-')) {
             log.warn("{} 영업시간 포맷이 잘못됨 value={} (하이픈 미존재)", LOG_PREFIX, value);
             return value;
         }
-        String start = times[0].trim();
-        String end = times[1].trim();
-        try {
-            LocalTime open = LocalTime.parse(start, TIME_FORMATTER);
-            start = TIME_FORMATTER.format(open);
-        } catch (DateTimeParseException ignored) {
+        String start = value.substring(0, separator).trim();
+        String end = value.substring(separator + 1).trim();
+        int openMinute = start.length() == 5 ? OpenHoursSchedule.parseMinute(start, 0) : -1;
+        if (openMinute < 0 || openMinute >= OpenHoursSchedule.MINUTES_PER_DAY) {
             log.warn("{} 시작 시간 파싱 실패 value={}", LOG_PREFIX, start);
+            openMinute = -1;
         }
-        if (end.equals("24:00")) {
-            return start + "-24:00";
-        }
-        try {
-            LocalTime close = LocalTime.parse(end, TIME_FORMATTER);
-            end = TIME_FORMATTER.format(close);
-        } catch (DateTimeParseException ignored) {
+        int closeMinute = end.length() == 5 ? OpenHoursSchedule.parseMinute(end, 0) : -1;
+        if (closeMinute < 0) {
             log.warn("{} 종료 시간 파싱 실패 value={}", LOG_PREFIX, end);
         }
+        if (openMinute >= 0 && closeMinute >= 0) {
+            schedule.add(dayIndex, openMinute, closeMinute);
+        }
+        if (separator == start.length() && value.length() == 11) {
+            // 이미 정규화된 형태면 새 문자열을 만들지 않음
+            return value;
+        }
         return start + '-' + end;
     }
 }
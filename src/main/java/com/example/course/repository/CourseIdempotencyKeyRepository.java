@@ -0,0 +1,46 @@
+package com.example.course.repository;
+
+import com.example.course.domain.CourseIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface CourseIdempotencyKeyRepository extends JpaRepository<CourseIdempotencyKey, CourseIdempotencyKey.Id> {
+
+    /**
+     * 키 기록 (merge의 사전 SELECT 없이 단일 INSERT) - 다른 인스턴스가 같은 키를 먼저 기록했으면
+     * 기본 키 위반(DataIntegrityViolationException)으로 코스 저장 트랜잭션 전체가 롤백된다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into course_idempotency_key (couple_id, idempotency_key, request_hash, course_id, created_at)
+            values (:coupleId, :idempotencyKey, :requestHash, :courseId, :createdAt)
+            """)
+    int insert(@Param("coupleId") String coupleId,
+               @Param("idempotencyKey") String idempotencyKey,
+               @Param("requestHash") String requestHash,
+               @Param("courseId") String courseId,
+               @Param("createdAt") Instant createdAt);
+
+    /**
+     * 만료된 키 하나 삭제 - cutoff 이후 다시 기록된 키는 남긴다.
+     */
+    @Modifying
+    @Query("""
+            delete from CourseIdempotencyKey k
+            where k.coupleId = :coupleId and k.idempotencyKey = :idempotencyKey and k.createdAt < :cutoff
+            """)
+    int deleteExpired(@Param("coupleId") String coupleId,
+                      @Param("idempotencyKey") String idempotencyKey,
+                      @Param("cutoff") Instant cutoff);
+
+    /**
+     * 보관 기간이 지난 키 삭제
+     */
+    @Modifying
+    @Query("delete from CourseIdempotencyKey k where k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
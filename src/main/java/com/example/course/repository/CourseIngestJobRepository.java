@@ -0,0 +1,79 @@
+package com.example.course.repository;
+
+import com.example.course.domain.CourseIngestJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface CourseIngestJobRepository extends JpaRepository<CourseIngestJob, String> {
+
+    /**
+     * 접수한 작업 기록 (merge의 사전 SELECT 없이 단일 INSERT)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into course_ingest_job (job_id, couple_id, status, payload, attempts, lease_until, submitted_at)
+            values (:jobId, :coupleId, 'QUEUED', cast(:payload as jsonb), 1, :leaseUntil, :submittedAt)
+            """)
+    int insert(@Param("jobId") String jobId,
+               @Param("coupleId") String coupleId,
+               @Param("payload") String payload,
+               @Param("leaseUntil") Instant leaseUntil,
+               @Param("submittedAt") Instant submittedAt);
+
+    /**
+     * 워커가 꺼낸 작업을 RUNNING으로 바꾸고 임대를 연장
+     */
+    @Modifying
+    @Query("""
+            update CourseIngestJob j
+            set j.status = com.example.course.domain.CourseIngestJob.Status.RUNNING, j.leaseUntil = :leaseUntil
+            where j.jobId in :jobIds
+            """)
+    int markRunning(@Param("jobIds") Collection<String> jobIds, @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query("""
+            update CourseIngestJob j
+            set j.status = com.example.course.domain.CourseIngestJob.Status.SUCCEEDED, j.courseId = :courseId,
+                j.completedAt = :completedAt
+            where j.jobId = :jobId
+            """)
+    int markSucceeded(@Param("jobId") String jobId, @Param("courseId") String courseId,
+                      @Param("completedAt") Instant completedAt);
+
+    @Modifying
+    @Query("""
+            update CourseIngestJob j
+            set j.status = com.example.course.domain.CourseIngestJob.Status.FAILED, j.error = :error,
+                j.completedAt = :completedAt
+            where j.jobId = :jobId
+            """)
+    int markFailed(@Param("jobId") String jobId, @Param("error") String error,
+                   @Param("completedAt") Instant completedAt);
+
+    /**
+     * 임대가 끝난 미완료 작업을 접수 순으로 잠금 - 다른 인스턴스가 잠근 행은 건너뛴다.
+     */
+    @Query(nativeQuery = true, value = """
+            select * from course_ingest_job
+            where status in ('QUEUED', 'RUNNING')
+              and lease_until < :now
+            order by submitted_at
+            limit :limit
+            for update skip locked
+            """)
+    List<CourseIngestJob> lockExpiredLeases(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * 보관 기간이 지난 완료 작업 삭제
+     */
+    @Modifying
+    @Query("delete from CourseIngestJob j where j.completedAt < :cutoff")
+    int deleteCompletedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,27 @@
+package com.example.course.repository;
+
+import com.example.course.api.dto.Response.CourseResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface CourseQueryRepository {
+
+    /**
+     * 커플 코스 페이지를 course → poi_set → poi(food_tag 포함)까지 엔티티 없이 DTO로 조회 (쿼리 1회).
+     * afterCreatedAt/afterCourseId가 null이면 첫 페이지를 조회한다.
+     */
+    List<PagedCourse> findCourseResponses(String coupleId, Instant afterCreatedAt, String afterCourseId, int limit);
+
+    /**
+     * 코스 페이지의 변경 여부 판단용 집계 - findCourseResponses와 같은 키셋 범위(limit 포함)의
+     * 코스 id 목록 해시, poi_set 건수, course/poi_set/poi의 최신 updated_at
+     */
+    CourseListVersion findCourseListVersion(String coupleId, Instant afterCreatedAt, String afterCourseId, int limit);
+
+    record PagedCourse(CourseResponse course, Instant createdAt) {
+    }
+
+    record CourseListVersion(long courseCount, String courseIds, long poiSetCount, Instant lastModified) {
+    }
+}
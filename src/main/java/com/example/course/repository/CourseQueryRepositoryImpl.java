@@ -0,0 +1,223 @@
+package com.example.course.repository;
+
+import com.example.course.api.dto.Response.CourseResponse;
+import com.example.course.api.dto.Response.CourseResponse.PoiResponse;
+import com.example.course.api.dto.Response.CourseResponse.PoiSetResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CourseQueryRepository 구현 - 코스 페이지 + POI(foodTag 포함)를 한 번의 조인으로 읽는다.
+ */
+class CourseQueryRepositoryImpl implements CourseQueryRepository {
+
+    private static final String PAGE_FIRST = """
+            select c.id, c.title, c.description, c.score, c.created_at, c.updated_at
+            from course c
+            where c.couple_id = :coupleId
+            order by c.created_at desc, c.id desc
+            limit :limit
+            """;
+
+    private static final String PAGE_AFTER = """
+            select c.id, c.title, c.description, c.score, c.created_at, c.updated_at
+            from course c
+            where c.couple_id = :coupleId
+              and (c.created_at < :createdAt or (c.created_at = :createdAt and c.id < :courseId))
+            order by c.created_at desc, c.id desc
+            limit :limit
+            """;
+
+    private static final String COURSE_POI_ROWS = """
+            with page as (%s)
+            select page.id as course_id, page.title, page.description, page.score, page.created_at,
+                   ps.id as poi_set_id, ps."order" as poi_order,
+                   p.id as poi_id, p.name, p.category, p.lat, p.lng, p.indoor, p.price_level,
+                   cast(p.open_hours as text) as open_hours, p.alcohol, p.mood_tag,
+                   cast(p.food_tag as text) as food_tag, p.rating_avg, p.link
+            from page
+            left join poi_set ps on ps.course_id = page.id
+            left join poi p on p.id = ps.poi_id
+            order by page.created_at desc, page.id desc, ps."order", ps.id
+            """;
+
+    /** 페이지에 포함된 코스(키셋 limit)와 그 poi_set/poi만 집계 - 비용이 커플 전체 코스 수가 아닌 페이지 크기에 비례 */
+    private static final String PAGE_VERSION = """
+            with page as (%s)
+            select (select count(*) from page) as course_count,
+                   (select md5(string_agg(page.id, ',' order by page.created_at desc, page.id desc)) from page) as course_ids,
+                   count(ps.id) as poi_set_count,
+                   greatest((select max(page.updated_at) from page), max(ps.updated_at), max(p.updated_at)) as last_modified
+            from page
+            left join poi_set ps on ps.course_id = page.id
+            left join poi p on p.id = ps.poi_id
+            """;
+
+    private static final TypeReference<LinkedHashMap<String, String>> OPEN_HOURS_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<String>> FOOD_TAG_TYPE = new TypeReference<>() {
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    CourseQueryRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<PagedCourse> findCourseResponses(String coupleId, Instant afterCreatedAt, String afterCourseId, int limit) {
+        MapSqlParameterSource params = pageParams(coupleId, afterCreatedAt, afterCourseId, limit);
+        String pageSql = afterCreatedAt != null ? PAGE_AFTER : PAGE_FIRST;
+
+        // 코스 페이지 + poi_set + poi (행은 코스 순서 → poi 순서로 정렬되어 있음)
+        Map<String, CourseRow> courses = new LinkedHashMap<>();
+        Map<Long, PoiRow> pois = new HashMap<>();
+        jdbcTemplate.query(COURSE_POI_ROWS.formatted(pageSql), params, rs -> {
+            String courseId = rs.getString("course_id");
+            CourseRow course = courses.get(courseId);
+            if (course == null) {
+                course = new CourseRow(courseId, rs.getString("title"), rs.getString("description"),
+                        rs.getLong("score"), rs.getTimestamp("created_at").toInstant());
+                courses.put(courseId, course);
+            }
+            long poiSetId = rs.getLong("poi_set_id");
+            if (rs.wasNull()) {
+                return;
+            }
+            Long poiId = rs.getLong("poi_id");
+            pois.computeIfAbsent(poiId, id -> readPoi(rs, id));
+            course.poiSets.add(new PoiSetRow(poiSetId, rs.getInt("poi_order"), poiId));
+        });
+        if (courses.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PoiResponse> poiResponses = new HashMap<>();
+        pois.forEach((poiId, poi) -> poiResponses.put(poiId, poi.toResponse()));
+        List<PagedCourse> result = new ArrayList<>(courses.size());
+        for (CourseRow course : courses.values()) {
+            List<PoiSetResponse> poiList = new ArrayList<>(course.poiSets.size());
+            for (PoiSetRow poiSet : course.poiSets) {
+                poiList.add(new PoiSetResponse(poiSet.id, poiSet.order, poiResponses.get(poiSet.poiId)));
+            }
+            CourseResponse response = new CourseResponse(course.id, course.title, course.description, course.score, poiList);
+            result.add(new PagedCourse(response, course.createdAt));
+        }
+        return result;
+    }
+
+    @Override
+    public CourseListVersion findCourseListVersion(String coupleId, Instant afterCreatedAt, String afterCourseId, int limit) {
+        MapSqlParameterSource params = pageParams(coupleId, afterCreatedAt, afterCourseId, limit);
+        String pageSql = afterCreatedAt != null ? PAGE_AFTER : PAGE_FIRST;
+        return jdbcTemplate.queryForObject(PAGE_VERSION.formatted(pageSql), params, (rs, rowNum) -> {
+            Timestamp lastModified = rs.getTimestamp("last_modified");
+            return new CourseListVersion(
+                    rs.getLong("course_count"),
+                    rs.getString("course_ids"),
+                    rs.getLong("poi_set_count"),
+                    lastModified != null ? lastModified.toInstant() : null
+            );
+        });
+    }
+
+    private static MapSqlParameterSource pageParams(String coupleId, Instant afterCreatedAt, String afterCourseId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("coupleId", coupleId)
+                .addValue("limit", limit);
+        if (afterCreatedAt != null) {
+            params.addValue("createdAt", Timestamp.from(afterCreatedAt))
+                    .addValue("courseId", afterCourseId);
+        }
+        return params;
+    }
+
+    private PoiRow readPoi(ResultSet rs, Long poiId) {
+        try {
+            return new PoiRow(
+                    poiId,
+                    rs.getString("name"),
+                    rs.getString("category"),
+                    rs.getDouble("lat"),
+                    rs.getDouble("lng"),
+                    rs.getBoolean("indoor"),
+                    rs.getObject("price_level", Integer.class),
+                    readOpenHours(rs.getString("open_hours")),
+                    rs.getObject("alcohol", Integer.class),
+                    rs.getString("mood_tag"),
+                    rs.getObject("rating_avg", Double.class),
+                    rs.getString("link"),
+                    readFoodTag(rs.getString("food_tag"))
+            );
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Failed to read poi row poiId=" + poiId, ex);
+        }
+    }
+
+    private Map<String, String> readOpenHours(String json) {
+        if (json == null) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return objectMapper.readValue(json, OPEN_HOURS_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to parse open_hours: " + json, ex);
+        }
+    }
+
+    private List<String> readFoodTag(String json) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, FOOD_TAG_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to parse food_tag: " + json, ex);
+        }
+    }
+
+    private static final class CourseRow {
+        private final String id;
+        private final String title;
+        private final String description;
+        private final Long score;
+        private final Instant createdAt;
+        private final List<PoiSetRow> poiSets = new ArrayList<>();
+
+        private CourseRow(String id, String title, String description, Long score, Instant createdAt) {
+            this.id = id;
+            this.title = title;
+            this.description = description;
+            this.score = score;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private record PoiSetRow(Long id, Integer order, Long poiId) {
+    }
+
+    private record PoiRow(Long id, String name, String category, Double lat, Double lng, Boolean indoor,
+                          Integer priceLevel, Map<String, String> openHours, Integer alcohol, String moodTag,
+                          Double ratingAvg, String link, List<String> foodTag) {
+
+        private PoiResponse toResponse() {
+            return new PoiResponse(id, name, category, lat, lng, indoor, priceLevel, openHours, alcohol,
+                    moodTag, List.copyOf(foodTag), link, ratingAvg);
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.course.repository;
 
 import com.example.course.domain.Course;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface CourseRepository extends JpaRepository<Course, String> {
+public interface CourseRepository extends JpaRepository<Course, String>, CourseQueryRepository {
 
     @Query("""
             select distinct c from Course c
@@ -18,16 +22,61 @@ public interface CourseRepository extends JpaRepository<Course, String> {
             """)
     Optional<Course> findByIdWithPoiSets(@Param("courseId") String courseId);
 
+    /**
+     * 커플 코스 요약 첫 페이지 (idx_course_couple_created 사용)
+     */
     @Query("""
-            select distinct c from Course c
-            left join fetch c.poiSets ps
-            left join fetch ps.poi
+            select c.id as id, c.title as title, c.description as description, c.score as score,
+                   size(c.poiSets) as poiCount, c.createdAt as createdAt
+            from Course c
             where c.coupleId = :coupleId
-            order by c.createdAt desc
+            order by c.createdAt desc, c.id desc
             """)
-    List<Course> findAllByCoupleIdWithPoiSets(@Param("coupleId") String coupleId);
+    List<CourseSummary> findSummariesByCoupleId(@Param("coupleId") String coupleId, Pageable pageable);
+
+    /**
+     * 커플 코스 요약 다음 페이지 - (created_at, id) 커서 이후
+     */
+    @Query("""
+            select c.id as id, c.title as title, c.description as description, c.score as score,
+                   size(c.poiSets) as poiCount, c.createdAt as createdAt
+            from Course c
+            where c.coupleId = :coupleId
+              and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :courseId))
+            order by c.createdAt desc, c.id desc
+            """)
+    List<CourseSummary> findSummariesByCoupleIdAfter(@Param("coupleId") String coupleId,
+                                                     @Param("createdAt") Instant createdAt,
+                                                     @Param("courseId") String courseId,
+                                                     Pageable pageable);
 
     Optional<Course> findByIdAndCoupleId(String id, String coupleId);
 
-    long deleteByIdAndCoupleId(String id, String coupleId);
+    /**
+     * 코스 삭제 (단일 DELETE 문) - poi_set은 PoiSetRepository.deleteByCourseIdsAndCoupleId로 먼저 삭제해야 함
+     */
+    @Modifying
+    @Query("delete from Course c where c.id = :courseId and c.coupleId = :coupleId")
+    int deleteByIdAndCoupleId(@Param("courseId") String courseId, @Param("coupleId") String coupleId);
+
+    /**
+     * 커플 소유 코스 일괄 삭제 - 다른 커플의 코스 id는 무시됨
+     */
+    @Modifying
+    @Query("delete from Course c where c.id in :courseIds and c.coupleId = :coupleId")
+    int deleteAllByIdInAndCoupleId(@Param("courseIds") Collection<String> courseIds, @Param("coupleId") String coupleId);
+
+    /**
+     * 코스를 로드하지 않고 평점만 갱신 - 해당 커플의 코스가 아니면 0 반환
+     */
+    @Modifying
+    @Query("""
+            update Course c
+            set c.score = :score, c.updatedAt = :updatedAt
+            where c.id = :courseId and c.coupleId = :coupleId
+            """)
+    int updateScore(@Param("courseId") String courseId,
+                    @Param("coupleId") String coupleId,
+                    @Param("score") Long score,
+                    @Param("updatedAt") Instant updatedAt);
 }
@@ -0,0 +1,21 @@
+package com.example.course.repository;
+
+import java.time.Instant;
+
+/**
+ * POI 상세 없이 조회하는 코스 요약 프로젝션
+ */
+public interface CourseSummary {
+
+    String getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Long getScore();
+
+    Integer getPoiCount();
+
+    Instant getCreatedAt();
+}
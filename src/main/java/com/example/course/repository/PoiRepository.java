@@ -5,7 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface PoiRepository extends JpaRepository<Poi, Long> {
+public interface PoiRepository extends JpaRepository<Poi, Long>, PoiUpsertRepository {
 
     Optional<Poi> findByNameAndLatAndLng(String name, Double lat, Double lng);
 }
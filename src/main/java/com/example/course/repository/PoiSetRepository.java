@@ -2,6 +2,23 @@ package com.example.course.repository;
 
 import com.example.course.domain.PoiSet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface PoiSetRepository extends JpaRepository<PoiSet, Long> {
+
+    /**
+     * 커플 소유 코스의 코스-POI 매핑 일괄 삭제 (엔티티 로드 없이 단일 DELETE 문)
+     */
+    @Modifying
+    @Query("""
+            delete from PoiSet ps
+            where ps.course.id in (
+                select c.id from Course c where c.id in :courseIds and c.coupleId = :coupleId
+            )
+            """)
+    int deleteByCourseIdsAndCoupleId(@Param("courseIds") Collection<String> courseIds, @Param("coupleId") String coupleId);
 }
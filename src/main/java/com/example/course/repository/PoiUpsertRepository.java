@@ -0,0 +1,52 @@
+package com.example.course.repository;
+
+import com.example.course.domain.Poi;
+import com.example.course.domain.PoiKey;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface PoiUpsertRepository {
+
+    /**
+     * (name, lat, lng) 자연 키로 POI 일괄 조회 - 2차 캐시를 거치지 않고 DB에서 한 번에 조회한다 (쓰기 경로 전용).
+     * 반환된 엔티티는 읽기 전용이며 존재하지 않는 키는 결과에서 제외된다.
+     */
+    List<Poi> findAllByKeys(Collection<PoiKey> keys);
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 POI 행을 FOR KEY SHARE로 잠가 고아 POI 정리에서 삭제되지 않게 하고, 잠근(존재하는) id를 반환한다.
+     * 이미 삭제된 id는 결과에서 빠진다.
+     */
+    Set<Long> lockForKeyShare(Collection<Long> ids);
+
+    /**
+     * id 목록으로 POI 일괄 조회 - 2차 캐시를 먼저 확인하고 없는 id만 DB에서 조회한다.
+     * 결과는 요청한 id 순서를 따르며 존재하지 않는 id는 제외된다.
+     */
+    List<Poi> findAllByIdsCached(List<Long> ids);
+
+    /**
+     * 신규 또는 변경된 POI를 단일 INSERT ... ON CONFLICT (name, lat, lng) 문으로 기록한다.
+     * 저장된 내용 해시가 같은 행은 갱신하지 않고 id만 반환한다(written=false).
+     * 전달되는 POI의 키는 서로 중복되지 않아야 한다. 갱신된 POI는 2차 캐시에서 제거된다.
+     */
+    List<UpsertedPoi> upsertAll(List<Poi> pois);
+
+    /**
+     * afterId 이후(id 오름차순)에서 어떤 poi_set도 참조하지 않고 cutoff 이전에 마지막으로 기록된 POI를 최대 limit개 삭제한다.
+     * 후보 행은 FOR UPDATE SKIP LOCKED로 잠가, 동시에 매핑이 추가되는 중(lockForKeyShare)인 POI는 건너뛴다. 삭제된 POI는 이 인스턴스의 2차 캐시에서 제거된다.
+     */
+    List<OrphanPoi> deleteOrphans(long afterId, Instant cutoff, int limit);
+
+    /**
+     * created: 새로 삽입됨, written: 이 호출에서 행을 기록함 (내용이 같아 건너뛴 행과 다른 요청의 결과를 재사용한 행은 false)
+     */
+    record UpsertedPoi(PoiKey key, Long id, boolean created, boolean written) {
+    }
+
+    record OrphanPoi(long id, double lat, double lng) {
+    }
+}
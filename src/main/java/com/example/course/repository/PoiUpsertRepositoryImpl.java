@@ -0,0 +1,314 @@
+package com.example.course.repository;
+
+import com.example.course.domain.Poi;
+import com.example.course.domain.PoiKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.Cache;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PoiUpsertRepository 구현 - PostgreSQL INSERT ... ON CONFLICT ... RETURNING 사용
+ */
+class PoiUpsertRepositoryImpl implements PoiUpsertRepository {
+
+    private static final String UPSERT_COLUMNS = """
+            insert into poi (name, category, lat, lng, indoor, price_level, open_hours, open_minutes, alcohol,
+                             mood_tag, food_tag, rating_avg, link, content_hash, created_at, updated_at)
+            values
+            """;
+
+    private static final String UPSERT_CONFLICT = """
+            on conflict (name, lat, lng) do update set
+                category = excluded.category,
+                indoor = excluded.indoor,
+                price_level = excluded.price_level,
+                open_hours = excluded.open_hours,
+                open_minutes = excluded.open_minutes,
+                alcohol = excluded.alcohol,
+                mood_tag = excluded.mood_tag,
+                food_tag = excluded.food_tag,
+                rating_avg = excluded.rating_avg,
+                link = excluded.link,
+                content_hash = excluded.content_hash,
+                updated_at = excluded.updated_at
+            where poi.content_hash is distinct from excluded.content_hash
+            returning id, name, lat, lng, (xmax = 0) as created
+            """;
+
+    private static final String LOCK_ORPHANS = """
+            select p.id, p.lat, p.lng
+            from poi p
+            where p.id > :afterId
+              and p.updated_at < :cutoff
+              and not exists (select 1 from poi_set ps where ps.poi_id = p.id)
+            order by p.id
+            limit :limit
+            for update of p skip locked
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    PoiUpsertRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Poi> findAllByKeys(Collection<PoiKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        // 쓰기 경로이므로 2차 캐시(인스턴스별)를 거치지 않고 DB에서 직접 확인 - 다른 레플리카에서 삭제된 POI를 재사용하지 않도록
+        StringBuilder sql = new StringBuilder("select * from poi where (name, lat, lng) in (");
+        int i = 0;
+        for (PoiKey ignored : keys) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:name").append(i).append(", :lat").append(i).append(", :lng").append(i).append(')');
+            i++;
+        }
+        sql.append(')');
+        Query query = entityManager.createNativeQuery(sql.toString(), Poi.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE);
+        i = 0;
+        for (PoiKey key : keys) {
+            query.setParameter("name" + i, key.name())
+                    .setParameter("lat" + i, key.lat())
+                    .setParameter("lng" + i, key.lng());
+            i++;
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Set<Long> lockForKeyShare(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        // 고아 POI 정리의 FOR UPDATE SKIP LOCKED와 충돌해, 잠근 행은 이 트랜잭션이 끝날 때까지 삭제 대상에서 빠짐
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select id from poi where id in (:ids) for key share",
+                new MapSqlParameterSource("ids", ids), Long.class));
+    }
+
+    @Override
+    public List<Poi> findAllByIdsCached(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Session session = entityManager.unwrap(Session.class);
+        List<Poi> found = session.byMultipleIds(Poi.class)
+                .with(CacheMode.NORMAL)
+                .multiLoad(ids);
+        List<Poi> result = new ArrayList<>(found.size());
+        for (Poi poi : found) {
+            if (poi != null) {
+                session.setReadOnly(poi, true);
+                result.add(poi);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<UpsertedPoi> upsertAll(List<Poi> pois) {
+        if (pois.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("now", Timestamp.from(Instant.now()));
+        StringBuilder sql = new StringBuilder(UPSERT_COLUMNS);
+        for (int i = 0; i < pois.size(); i++) {
+            Poi poi = pois.get(i);
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append("(:name").append(i)
+                    .append(", :category").append(i)
+                    .append(", :lat").append(i)
+                    .append(", :lng").append(i)
+                    .append(", :indoor").append(i)
+                    .append(", :priceLevel").append(i)
+                    .append(", cast(:openHours").append(i).append(" as jsonb)")
+                    .append(", cast(:openMinutes").append(i).append(" as integer[])")
+                    .append(", :alcohol").append(i)
+                    .append(", :moodTag").append(i)
+                    .append(", cast(:foodTag").append(i).append(" as jsonb)")
+                    .append(", :ratingAvg").append(i)
+                    .append(", :link").append(i)
+                    .append(", :contentHash").append(i)
+                    .append(", :now, :now)");
+            params.addValue("name" + i, poi.getName(), Types.VARCHAR)
+                    .addValue("category" + i, poi.getCategory().name(), Types.VARCHAR)
+                    .addValue("lat" + i, poi.getLat(), Types.DOUBLE)
+                    .addValue("lng" + i, poi.getLng(), Types.DOUBLE)
+                    .addValue("indoor" + i, poi.getIndoor(), Types.BOOLEAN)
+                    .addValue("priceLevel" + i, poi.getPriceLevel(), Types.INTEGER)
+                    .addValue("openHours" + i, toJson(poi.getOpenHours()), Types.VARCHAR)
+                    .addValue("openMinutes" + i, toArrayLiteral(poi.getOpenMinutes()), Types.VARCHAR)
+                    .addValue("alcohol" + i, poi.getAlcohol(), Types.INTEGER)
+                    .addValue("moodTag" + i, poi.getMoodTag(), Types.VARCHAR)
+                    .addValue("foodTag" + i, toJson(poi.getFoodTag()), Types.VARCHAR)
+                    .addValue("ratingAvg" + i, poi.getRatingAvg(), Types.DOUBLE)
+                    .addValue("link" + i, poi.getLink(), Types.VARCHAR)
+                    .addValue("contentHash" + i, poi.getContentHash(), Types.VARCHAR);
+        }
+        sql.append('\n').append(UPSERT_CONFLICT);
+
+        List<UpsertedPoi> upserted = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new UpsertedPoi(
+                new PoiKey(rs.getString("name"), rs.getDouble("lat"), rs.getDouble("lng")),
+                rs.getLong("id"),
+                rs.getBoolean("created"),
+                true
+        ));
+
+        evictUpdatedFromCache(upserted);
+        if (upserted.size() < pois.size()) {
+            // 조회 이후 다른 요청이 같은 내용으로 먼저 기록한 행은 갱신 조건에 걸려 RETURNING에서 빠지므로 id만 조회
+            upserted = new ArrayList<>(upserted);
+            upserted.addAll(findUnchanged(pois, upserted));
+        }
+        return upserted;
+    }
+
+    private List<UpsertedPoi> findUnchanged(List<Poi> pois, List<UpsertedPoi> written) {
+        Set<PoiKey> writtenKeys = new HashSet<>();
+        written.forEach(row -> writtenKeys.add(row.key()));
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder("select id, name, lat, lng from poi where (name, lat, lng) in (");
+        int count = 0;
+        for (Poi poi : pois) {
+            if (writtenKeys.contains(PoiKey.of(poi))) {
+                continue;
+            }
+            if (count > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:name").append(count).append(", :lat").append(count).append(", :lng").append(count).append(')');
+            params.addValue("name" + count, poi.getName(), Types.VARCHAR)
+                    .addValue("lat" + count, poi.getLat(), Types.DOUBLE)
+                    .addValue("lng" + count, poi.getLng(), Types.DOUBLE);
+            count++;
+        }
+        sql.append(')');
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new UpsertedPoi(
+                new PoiKey(rs.getString("name"), rs.getDouble("lat"), rs.getDouble("lng")),
+                rs.getLong("id"),
+                false,
+                false
+        ));
+    }
+
+    @Override
+    public List<OrphanPoi> deleteOrphans(long afterId, Instant cutoff, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("cutoff", Timestamp.from(cutoff))
+                .addValue("limit", limit);
+        // NOT EXISTS는 idx_poi_set_poi 인덱스로 확인, 잠근 행은 매핑 INSERT의 FK 확인(KEY SHARE)과 충돌해 커밋 전까지 참조될 수 없음
+        List<OrphanPoi> orphans = jdbcTemplate.query(LOCK_ORPHANS, params,
+                (rs, rowNum) -> new OrphanPoi(rs.getLong("id"), rs.getDouble("lat"), rs.getDouble("lng")));
+        if (orphans.isEmpty()) {
+            return orphans;
+        }
+        List<Long> ids = orphans.stream().map(OrphanPoi::id).toList();
+        MapSqlParameterSource idParams = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update("delete from poi where id in (:ids)", idParams);
+
+        // 이 인스턴스의 엔티티 캐시만 정리됨 - 다른 레플리카의 항목은 id 조회로만 쓰이며, 삭제된 POI는 어떤 코스에서도 참조되지 않음
+        evictFromCache(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictFromCache(ids);
+                }
+            });
+        }
+        return orphans;
+    }
+
+    /**
+     * 네이티브 UPDATE는 2차 캐시를 거치지 않으므로 갱신된 POI 항목을 즉시, 그리고 커밋 이후 다시 제거한다.
+     * (커밋 전 다른 트랜잭션이 이전 값을 다시 캐싱하는 경우 대비)
+     */
+    private void evictUpdatedFromCache(List<UpsertedPoi> upserted) {
+        List<Long> updatedIds = upserted.stream()
+                .filter(row -> !row.created())
+                .map(UpsertedPoi::id)
+                .toList();
+        if (updatedIds.isEmpty()) {
+            return;
+        }
+        evictFromCache(updatedIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictFromCache(updatedIds);
+                }
+            });
+        }
+    }
+
+    private void evictFromCache(List<Long> poiIds) {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        for (Long poiId : poiIds) {
+            cache.evictEntityData(Poi.class, poiId);
+        }
+    }
+
+    /**
+     * int[] -> PostgreSQL 배열 리터럴 ("{540,1080}"), null은 그대로 유지
+     */
+    private static String toArrayLiteral(int[] values) {
+        if (values == null) {
+            return null;
+        }
+        StringBuilder literal = new StringBuilder(values.length * 6 + 2).append('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append(values[i]);
+        }
+        return literal.append('}').toString();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("POI field cannot be serialized to JSON", ex);
+        }
+    }
+}
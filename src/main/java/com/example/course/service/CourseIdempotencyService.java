@@ -0,0 +1,261 @@
+package com.example.course.service;
+
+import com.example.course.api.dto.Requset.CreateCourseRequest;
+import com.example.course.domain.CourseIdempotencyKey;
+import com.example.course.repository.CourseIdempotencyKeyRepository;
+import com.example.course.service.CourseService.CourseCreationResult;
+import com.example.course.service.CourseService.IdempotencyKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 기반 코스 생성 - 같은 커플이 같은 키로 다시 보낸 요청은 코스를 다시 만들지 않고 처음 결과를 반환한다.
+ * 진행 중/최근 키는 인스턴스 메모리(TTL, 크기 제한)에서, 그 밖의 키는 course_idempotency_key 테이블에서 확인한다.
+ * 키 기록은 코스와 같은 트랜잭션에서 저장되므로 인스턴스 간 동시 요청도 기본 키 충돌로 하나만 생성된다.
+ * 키는 처음 기록된 시각(created_at)부터 ttl 동안만 유효하며, 지난 키는 정리 전이라도 재사용하지 않고 새 요청으로 처리한다.
+ */
+@Component
+@Slf4j
+public class CourseIdempotencyService {
+
+    private static final String LOG_PREFIX = "[CourseIdempotencyService]";
+    public static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String IN_PROGRESS_MESSAGE = "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.";
+    private static final String MISMATCH_MESSAGE = "Idempotency-Key가 다른 요청 본문에 이미 사용되었습니다.";
+
+    private final CourseService courseService;
+    private final CourseIdempotencyKeyRepository courseIdempotencyKeyRepository;
+    private final ObjectWriter requestWriter;
+    private final TransactionTemplate transaction;
+    private final Cache<String, Entry> entries;
+    private final Duration ttl;
+    private final long inFlightTimeoutNanos;
+
+    private final Counter createdCounter;
+    private final Counter replayedCounter;
+    private final Counter mismatchCounter;
+    private final Counter conflictCounter;
+
+    public CourseIdempotencyService(CourseService courseService,
+                                    CourseIdempotencyKeyRepository courseIdempotencyKeyRepository,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${course.idempotency.ttl:PT24H}") Duration ttl,
+                                    @Value("${course.idempotency.maximum-size:100000}") long maximumSize,
+                                    @Value("${course.idempotency.in-flight-timeout:PT10S}") Duration inFlightTimeout) {
+        this.courseService = courseService;
+        this.courseIdempotencyKeyRepository = courseIdempotencyKeyRepository;
+        // 같은 본문이면 openHours 키 순서와 관계없이 같은 해시가 되도록 정렬해 직렬화
+        this.requestWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.transaction = new TransactionTemplate(transactionManager);
+        // 메모리 항목도 키가 처음 기록된 시각 기준으로 만료 (DB에서 읽어 다시 넣어도 보관 기간이 늘어나지 않음)
+        long ttlNanos = ttl.toNanos();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String scope, Entry entry, long currentTime) {
+                        long age = Duration.between(entry.createdAt, Instant.now()).toNanos();
+                        return Math.max(0, ttlNanos - age);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String scope, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(scope, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String scope, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.ttl = ttl;
+        this.inFlightTimeoutNanos = inFlightTimeout.toNanos();
+
+        this.createdCounter = requestCounter(meterRegistry, "created");
+        this.replayedCounter = requestCounter(meterRegistry, "replayed");
+        this.mismatchCounter = requestCounter(meterRegistry, "mismatch");
+        this.conflictCounter = requestCounter(meterRegistry, "conflict");
+    }
+
+    /**
+     * 키가 처음이면 코스를 생성하고, 처리 중이면 끝날 때까지 기다렸다가, 완료된 키면 바로 처음 결과를 반환한다.
+     * 같은 키에 다른 본문이면 422, 처리 중인 요청이 in-flight-timeout 안에 끝나지 않으면 409.
+     */
+    public Outcome createCourse(String coupleId, String key, CreateCourseRequest request) {
+        validateKey(key);
+        String requestHash = hash(request);
+        // 헤더 값에는 개행이 올 수 없으므로 구분자로 사용
+        String scope = coupleId + '\n' + key;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Entry entry = new Entry(requestHash, Instant.now());
+            Entry current = entries.asMap().putIfAbsent(scope, entry);
+            if (current == null) {
+                return lead(coupleId, key, scope, entry, request);
+            }
+            requireSameRequest(current, requestHash, key);
+            String courseId = await(current);
+            if (courseId != null) {
+                replayedCounter.increment();
+                log.debug("{} 기존 결과 재사용 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
+                return new Outcome(courseId, true);
+            }
+            // 선행 요청이 실패해 항목이 제거됨 - 직접 처리를 다시 시도
+        }
+        conflictCounter.increment();
+        throw new ResponseStatusException(HttpStatus.CONFLICT, IN_PROGRESS_MESSAGE);
+    }
+
+    private Outcome lead(String coupleId, String key, String scope, Entry entry, CreateCourseRequest request) {
+        try {
+            CourseIdempotencyKey stored = courseIdempotencyKeyRepository
+                    .findById(new CourseIdempotencyKey.Id(coupleId, key))
+                    .orElse(null);
+            if (stored != null && isExpired(stored)) {
+                // 정리 전 남아 있는 만료 키 - 지우고 새 요청으로 처리 (그사이 다시 기록된 키는 created_at 조건으로 보존)
+                Instant cutoff = Instant.now().minus(ttl);
+                transaction.executeWithoutResult(status ->
+                        courseIdempotencyKeyRepository.deleteExpired(coupleId, key, cutoff));
+                log.debug("{} 만료된 Idempotency-Key 재사용 coupleId={} createdAt={}", LOG_PREFIX, coupleId, stored.getCreatedAt());
+                stored = null;
+            }
+            if (stored == null) {
+                try {
+                    CourseCreationResult result = courseService.createCourse(coupleId, request,
+                            new IdempotencyKey(key, entry.requestHash));
+                    String courseId = result.course().getId();
+                    entry.courseId.complete(courseId);
+                    createdCounter.increment();
+                    return new Outcome(courseId, false);
+                } catch (DataIntegrityViolationException ex) {
+                    // 다른 인스턴스가 같은 키로 먼저 커밋함 - 그 기록을 결과로 사용
+                    stored = courseIdempotencyKeyRepository
+                            .findById(new CourseIdempotencyKey.Id(coupleId, key))
+                            .orElseThrow(() -> ex);
+                }
+            }
+            // 저장된 키의 해시로 항목을 교체해 이후 요청이 메모리에서 판별되도록 함
+            Entry completed = new Entry(stored.getRequestHash(), stored.getCreatedAt());
+            completed.courseId.complete(stored.getCourseId());
+            entries.put(scope, completed);
+            entry.courseId.complete(null);
+            requireSameRequest(completed, entry.requestHash, key);
+            replayedCounter.increment();
+            return new Outcome(stored.getCourseId(), true);
+        } catch (RuntimeException ex) {
+            entries.asMap().remove(scope, entry);
+            entry.courseId.complete(null);
+            throw ex;
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 키 정리 (코스 삭제와 무관) - OrphanPoiCollector의 정기 작업에서 잠금을 잡은 인스턴스 하나만 호출
+     */
+    @Transactional
+    public int purgeExpired() {
+        int deleted = courseIdempotencyKeyRepository.deleteCreatedBefore(Instant.now().minus(ttl));
+        if (deleted > 0) {
+            log.info("{} 만료된 Idempotency-Key 삭제 count={}", LOG_PREFIX, deleted);
+        }
+        return deleted;
+    }
+
+    private boolean isExpired(CourseIdempotencyKey stored) {
+        return stored.getCreatedAt().isBefore(Instant.now().minus(ttl));
+    }
+
+    private void requireSameRequest(Entry entry, String requestHash, String key) {
+        if (!entry.requestHash.equals(requestHash)) {
+            mismatchCounter.increment();
+            log.warn("{} 같은 키에 다른 요청 본문 key={} → 422", LOG_PREFIX, key);
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, MISMATCH_MESSAGE);
+        }
+    }
+
+    private String await(Entry entry) {
+        try {
+            return entry.courseId.get(inFlightTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            conflictCounter.increment();
+            throw new ResponseStatusException(HttpStatus.CONFLICT, IN_PROGRESS_MESSAGE);
+        } catch (ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight idempotent request", ex);
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Idempotency-Key must not be blank");
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private String hash(CreateCourseRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(requestWriter.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Failed to hash course creation request", ex);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("course.idempotency.requests")
+                .description("Course creation requests carrying an Idempotency-Key, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * courseId: 생성(또는 처음 생성된) 코스 id, replayed: 이전 결과를 재사용했는지 여부
+     */
+    public record Outcome(String courseId, boolean replayed) {
+    }
+
+    private static final class Entry {
+        private final String requestHash;
+        private final Instant createdAt;
+        // 성공 시 코스 id, 실패 시 null로 완료
+        private final CompletableFuture<String> courseId = new CompletableFuture<>();
+
+        private Entry(String requestHash, Instant createdAt) {
+            this.requestHash = requestHash;
+            this.createdAt = createdAt;
+        }
+    }
+}
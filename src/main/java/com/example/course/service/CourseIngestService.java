@@ -0,0 +1,438 @@
+package com.example.course.service;
+
+import com.example.course.api.dto.Requset.CreateCourseRequest;
+import com.example.course.domain.CourseIdempotencyKey;
+import com.example.course.domain.CourseIngestJob;
+import com.example.course.domain.CourseIngestJob.Status;
+import com.example.course.repository.CourseIdempotencyKeyRepository;
+import com.example.course.repository.CourseIngestJobRepository;
+import com.example.course.service.CourseService.CourseCreationResult;
+import com.example.course.service.CourseService.IdempotencyKey;
+import com.example.course.service.CourseService.PreparedCourse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 코스 생성 접수 - 검증을 마친 요청을 course_ingest_job에 기록하고 크기 제한 큐에 넣은 뒤(가득 차면 429) 즉시 작업 id를 반환한다.
+ * 워커 스레드는 큐에서 최대 batch-size개를 꺼내 POI upsert와 코스 저장을 묶음 단위로 처리한다.
+ * 작업 상태는 DB에 있어 어느 인스턴스에서든 조회되고, 처리하던 인스턴스가 사라져 임대(lease)가 끝난 작업은 다른 인스턴스가 회수해 다시 처리한다.
+ * 작업 id를 Idempotency-Key로 코스와 같은 트랜잭션에 기록하므로 다시 처리해도 코스는 한 번만 생성된다.
+ * 워커는 컨텍스트 기동이 끝난 뒤 웹 서버보다 먼저 시작되고, 종료 시에는 웹 서버가 요청 처리를 마친 뒤 큐를 비우고 멈춘다.
+ */
+@Component
+@Slf4j
+public class CourseIngestService implements SmartLifecycle {
+
+    /** 웹 서버(graceful shutdown 포함)보다 먼저 시작하고 나중에 멈추도록 낮은 단계 사용 */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final String LOG_PREFIX = "[CourseIngestService]";
+    private static final String QUEUE_FULL_MESSAGE = "코스 생성 요청이 많아 잠시 후 다시 시도해주세요.";
+    private static final String FAILED_MESSAGE = "코스 저장 중 오류가 발생했습니다.";
+    private static final String ATTEMPTS_EXCEEDED_MESSAGE = "코스 저장 재시도 횟수를 초과했습니다.";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    /** 작업 id로 만든 Idempotency-Key - 사용자 키와 구분되도록 접두어 사용 */
+    private static final String JOB_KEY_PREFIX = "async-job:";
+
+    private final CourseService courseService;
+    private final CourseIngestJobRepository courseIngestJobRepository;
+    private final CourseIdempotencyKeyRepository courseIdempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<Submission> queue;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration jobTtl;
+    private final int workerCount;
+    private final Duration shutdownTimeout;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Counter recoveredCounter;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    public CourseIngestService(CourseService courseService,
+                               CourseIngestJobRepository courseIngestJobRepository,
+                               CourseIdempotencyKeyRepository courseIdempotencyKeyRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${course.async-create.queue-capacity:1000}") int queueCapacity,
+                               @Value("${course.async-create.workers:2}") int workerCount,
+                               @Value("${course.async-create.batch-size:20}") int batchSize,
+                               @Value("${course.async-create.lease:PT5M}") Duration lease,
+                               @Value("${course.async-create.max-attempts:3}") int maxAttempts,
+                               @Value("${course.async-create.job-ttl:PT1H}") Duration jobTtl,
+                               @Value("${course.async-create.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.courseService = courseService;
+        this.courseIngestJobRepository = courseIngestJobRepository;
+        this.courseIdempotencyKeyRepository = courseIdempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.jobTtl = jobTtl;
+        this.workerCount = workerCount;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("course.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Course creation jobs waiting in the ingest queue")
+                .register(meterRegistry);
+        this.acceptedCounter = submissionCounter(meterRegistry, "accepted");
+        this.rejectedCounter = submissionCounter(meterRegistry, "rejected");
+        this.succeededCounter = jobCounter(meterRegistry, "succeeded");
+        this.failedCounter = jobCounter(meterRegistry, "failed");
+        this.recoveredCounter = Counter.builder("course.ingest.recovered")
+                .description("Jobs re-queued after their lease expired on another (or this) instance")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("course.ingest.batch")
+                .description("Time to persist one batch of queued courses")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("course.ingest.batch.size")
+                .description("Courses persisted per batch")
+                .register(meterRegistry);
+        log.info("{} 코스 접수 큐 초기화 capacity={} workers={} batchSize={}", LOG_PREFIX, queueCapacity, workerCount, batchSize);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        workers.clear();
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "course-ingest-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("{} 코스 접수 워커 시작 workers={}", LOG_PREFIX, workerCount);
+    }
+
+    /**
+     * 새 요청 접수를 멈추고 큐에 남은 작업을 shutdown-timeout 안에서 처리. 시간 안에 끝나지 않은 워커는 인터럽트하며,
+     * 남은 작업은 임대가 끝난 뒤 다른 인스턴스가 회수한다.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.stream().filter(Thread::isAlive).forEach(Thread::interrupt);
+        if (!queue.isEmpty()) {
+            log.warn("{} 종료 시점에 처리하지 못한 코스 생성 작업 - 임대 만료 후 다른 인스턴스가 처리 count={}",
+                    LOG_PREFIX, queue.size());
+        }
+        log.info("{} 코스 접수 워커 종료", LOG_PREFIX);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 요청을 검증한 뒤 작업을 기록하고 큐에 넣어 반환 - 검증 실패는 호출 스레드에서 400으로, 큐가 가득 차면 429로 응답한다.
+     */
+    public CourseJob submit(String coupleId, CreateCourseRequest request) {
+        if (!running) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, QUEUE_FULL_MESSAGE);
+        }
+        PreparedCourse prepared = courseService.prepareCourse(coupleId, request);
+        if (queue.remainingCapacity() == 0) {
+            throw rejected(coupleId);
+        }
+        String jobId = UUID.randomUUID().toString();
+        String payload = writePayload(request);
+        Instant now = Instant.now();
+        transaction.executeWithoutResult(status ->
+                courseIngestJobRepository.insert(jobId, coupleId, payload, now.plus(lease), now));
+        if (!queue.offer(new Submission(jobId, withJobKey(prepared, jobId, payload)))) {
+            // 기록과 큐 사이에 가득 찬 경우 - 429로 응답했으므로 회수되지 않도록 기록 삭제
+            transaction.executeWithoutResult(status -> courseIngestJobRepository.deleteById(jobId));
+            throw rejected(coupleId);
+        }
+        acceptedCounter.increment();
+        log.debug("{} 코스 생성 접수 jobId={} coupleId={}", LOG_PREFIX, jobId, coupleId);
+        return new CourseJob(jobId, coupleId, Status.QUEUED, null, null, now, null);
+    }
+
+    /**
+     * 작업 조회 - 다른 커플의 작업이나 보관 기간이 지난 작업은 없는 것으로 처리
+     */
+    public CourseJob findJob(String coupleId, String jobId) {
+        return courseIngestJobRepository.findById(jobId)
+                .filter(job -> job.getCoupleId().equals(coupleId))
+                .map(CourseJob::from)
+                .orElseThrow(() -> new EntityNotFoundException("Course job not found: " + jobId));
+    }
+
+    /**
+     * 임대가 끝난 미완료 작업 회수 - 처리하던 인스턴스가 종료/장애로 사라진 작업을 이 인스턴스 큐에 다시 넣는다.
+     * 이미 코스가 저장된 작업은 Idempotency-Key 충돌로 저장된 코스 id를 찾아 완료 처리된다.
+     */
+    @Scheduled(fixedDelayString = "${course.async-create.recover-interval:PT30S}",
+            initialDelayString = "${course.async-create.recover-interval:PT30S}")
+    public void recoverExpired() {
+        int capacity = queue.remainingCapacity();
+        if (!running || capacity == 0) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<CourseIngestJob> claimed = transaction.execute(status -> {
+            List<CourseIngestJob> expired = courseIngestJobRepository.lockExpiredLeases(now, Math.min(capacity, batchSize));
+            for (CourseIngestJob job : expired) {
+                if (job.getAttempts() >= maxAttempts) {
+                    job.fail(ATTEMPTS_EXCEEDED_MESSAGE, now);
+                    failedCounter.increment();
+                    log.warn("{} 재시도 횟수 초과 - 실패 처리 jobId={} attempts={}", LOG_PREFIX, job.getJobId(), job.getAttempts());
+                } else {
+                    job.renewLease(now.plus(lease));
+                }
+            }
+            return expired;
+        });
+        for (CourseIngestJob job : claimed) {
+            if (job.getStatus() == Status.FAILED) {
+                continue;
+            }
+            Submission submission;
+            try {
+                PreparedCourse prepared = courseService.prepareCourse(job.getCoupleId(), readPayload(job.getPayload()));
+                submission = new Submission(job.getJobId(), withJobKey(prepared, job.getJobId(), job.getPayload()));
+            } catch (RuntimeException ex) {
+                fail(new Submission(job.getJobId(), null), job.getCoupleId(), ex);
+                continue;
+            }
+            if (!queue.offer(submission)) {
+                // 남은 작업은 임대가 끝난 뒤 다시 회수됨
+                break;
+            }
+            recoveredCounter.increment();
+            log.info("{} 임대 만료 작업 회수 jobId={} coupleId={} attempts={}",
+                    LOG_PREFIX, job.getJobId(), job.getCoupleId(), job.getAttempts());
+        }
+    }
+
+    /**
+     * 보관 기간(job-ttl)이 지난 완료 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${course.async-create.purge-interval:PT10M}",
+            initialDelayString = "${course.async-create.purge-interval:PT10M}")
+    public void purgeCompleted() {
+        Integer deleted = transaction.execute(status ->
+                courseIngestJobRepository.deleteCompletedBefore(Instant.now().minus(jobTtl)));
+        if (deleted != null && deleted > 0) {
+            log.info("{} 보관 기간이 지난 작업 삭제 count={}", LOG_PREFIX, deleted);
+        }
+    }
+
+    private void work() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("{} 코스 접수 워커 오류 message={}", LOG_PREFIX, ex.getMessage(), ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 전체를 한 번에 저장하고, 실패하면 원인 작업만 실패 처리되도록 하나씩 다시 저장
+     */
+    private void process(List<Submission> batch) {
+        Instant leaseUntil = Instant.now().plus(lease);
+        transaction.executeWithoutResult(status -> courseIngestJobRepository.markRunning(
+                batch.stream().map(Submission::jobId).toList(), leaseUntil));
+        long startTime = System.nanoTime();
+        try {
+            List<CourseCreationResult> results = courseService.createCourses(
+                    batch.stream().map(Submission::prepared).toList());
+            Instant completedAt = Instant.now();
+            transaction.executeWithoutResult(status -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    courseIngestJobRepository.markSucceeded(batch.get(i).jobId(), results.get(i).course().getId(), completedAt);
+                }
+            });
+            succeededCounter.increment(batch.size());
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), batch.get(0).prepared().coupleId(), ex);
+            } else {
+                log.warn("{} 묶음 저장 실패 - 개별 재시도 size={} message={}", LOG_PREFIX, batch.size(), ex.getMessage());
+                batch.forEach(this::processSingle);
+            }
+        } finally {
+            batchTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    private void processSingle(Submission submission) {
+        try {
+            succeed(submission.jobId(), courseService.createCourses(List.of(submission.prepared())).get(0).course().getId());
+        } catch (RuntimeException ex) {
+            fail(submission, submission.prepared().coupleId(), ex);
+        }
+    }
+
+    private void succeed(String jobId, String courseId) {
+        Instant completedAt = Instant.now();
+        transaction.executeWithoutResult(status -> courseIngestJobRepository.markSucceeded(jobId, courseId, completedAt));
+        succeededCounter.increment();
+    }
+
+    private void fail(Submission submission, String coupleId, RuntimeException ex) {
+        if (ex instanceof DataIntegrityViolationException) {
+            // 이전 처리(다른 인스턴스 포함)에서 이미 코스가 저장됨 - 그 코스로 완료 처리
+            CourseIdempotencyKey stored = courseIdempotencyKeyRepository
+                    .findById(new CourseIdempotencyKey.Id(coupleId, JOB_KEY_PREFIX + submission.jobId()))
+                    .orElse(null);
+            if (stored != null) {
+                log.info("{} 이미 저장된 작업 - 기존 코스로 완료 jobId={} courseId={}",
+                        LOG_PREFIX, submission.jobId(), stored.getCourseId());
+                succeed(submission.jobId(), stored.getCourseId());
+                return;
+            }
+        }
+        // 검증 오류 메시지만 그대로 노출하고 나머지는 일반 메시지로 대체
+        String error = ex instanceof IllegalArgumentException ? ex.getMessage() : FAILED_MESSAGE;
+        Instant completedAt = Instant.now();
+        transaction.executeWithoutResult(status -> courseIngestJobRepository.markFailed(submission.jobId(), error, completedAt));
+        failedCounter.increment();
+        log.warn("{} 코스 생성 실패 jobId={} coupleId={} message={}",
+                LOG_PREFIX, submission.jobId(), coupleId, ex.getMessage());
+    }
+
+    private ResponseStatusException rejected(String coupleId) {
+        rejectedCounter.increment();
+        log.warn("{} 접수 큐 가득 참 - 429 반환 coupleId={} queueSize={}", LOG_PREFIX, coupleId, queue.size());
+        return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, QUEUE_FULL_MESSAGE);
+    }
+
+    /**
+     * 작업 id를 Idempotency-Key로 사용 - 회수 후 다시 처리해도 코스는 한 번만 저장된다.
+     */
+    private static PreparedCourse withJobKey(PreparedCourse prepared, String jobId, String payload) {
+        return prepared.withIdempotencyKey(new IdempotencyKey(JOB_KEY_PREFIX + jobId, sha256(payload)));
+    }
+
+    private String writePayload(CreateCourseRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize course creation request", ex);
+        }
+    }
+
+    private CreateCourseRequest readPayload(String payload) {
+        try {
+            return objectMapper.readValue(payload, CreateCourseRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to read stored course creation request", ex);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static Counter submissionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("course.ingest.submissions")
+                .description("Asynchronous course creation requests by admission result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter jobCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("course.ingest.jobs")
+                .description("Asynchronous course creation jobs by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비동기 코스 생성 작업 상태 (courseId는 SUCCEEDED, error는 FAILED일 때만 존재)
+     */
+    public record CourseJob(String jobId, String coupleId, Status status, String courseId, String error,
+                            Instant submittedAt, Instant completedAt) {
+
+        static CourseJob from(CourseIngestJob job) {
+            return new CourseJob(job.getJobId(), job.getCoupleId(), job.getStatus(), job.getCourseId(), job.getError(),
+                    job.getSubmittedAt(), job.getCompletedAt());
+        }
+    }
+
+    private record Submission(String jobId, PreparedCourse prepared) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.course.service;
+
+import com.example.course.repository.CourseQueryRepository.CourseListVersion;
+import com.example.course.service.CourseService.CourseListPage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 커플별 코스 목록 첫 페이지 캐시 (크기/TTL 제한, 인스턴스별).
+ * 항목은 저장 시점의 목록 버전과 함께 보관되며, 조회 시 DB의 현재 버전과 다르면 사용하지 않으므로
+ * 다른 레플리카에서 변경된 목록도 바로 다시 읽는다. 커밋 이후 무효화는 이 인스턴스의 메모리 정리 용도.
+ */
+@Component
+@Slf4j
+public class CourseListCache {
+
+    private static final String LOG_PREFIX = "[CourseListCache]";
+    private static final String CACHE_NAME = "courseList";
+
+    private final Cache<String, CoupleEntry> cache;
+    private final Counter invalidations;
+    private final Counter staleHits;
+
+    public CourseListCache(@Value("${course.cache.course-list.maximum-size:10000}") long maximumSize,
+                           @Value("${course.cache.course-list.ttl:PT5M}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("Explicit invalidations of a cache entry after a write")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        this.staleHits = Counter.builder("cache.stale")
+                .description("Cached entries discarded because the underlying data changed (e.g. on another replica)")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        log.info("{} 코스 목록 캐시 초기화 maximumSize={} ttl={}", LOG_PREFIX, maximumSize, ttl);
+    }
+
+    /**
+     * 현재 목록 버전(current)으로 저장된 페이지를 반환하거나 loader로 조회 후 저장. 페이지는 읽은 시점의 목록 버전과 함께 저장된다.
+     * 조회 도중 무효화된 경우 결과는 이미 분리된 항목에 저장되어 다음 요청에 노출되지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CourseListPage<T> get(String coupleId, String view, int size, CourseListVersion current,
+                                     Supplier<CourseListPage<T>> loader) {
+        CoupleEntry entry = cache.get(coupleId, key -> new CoupleEntry());
+        String pageKey = view + ':' + size;
+        CourseListPage<?> cached = entry.pages.get(pageKey);
+        if (cached != null) {
+            if (cached.version().equals(current)) {
+                return (CourseListPage<T>) cached;
+            }
+            staleHits.increment();
+            log.debug("{} 목록 버전 변경 - 다시 조회 coupleId={} view={}", LOG_PREFIX, coupleId, view);
+        }
+        CourseListPage<T> loaded = loader.get();
+        entry.pages.put(pageKey, loaded);
+        return loaded;
+    }
+
+    /**
+     * 커플의 캐시 항목 무효화 - 트랜잭션 안에서는 커밋 이후에 수행
+     */
+    public void evictAfterCommit(String coupleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(coupleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(coupleId);
+            }
+        });
+    }
+
+    private void evict(String coupleId) {
+        cache.invalidate(coupleId);
+        invalidations.increment();
+        log.debug("{} 코스 목록 캐시 무효화 coupleId={}", LOG_PREFIX, coupleId);
+    }
+
+    private static final class CoupleEntry {
+        private final ConcurrentMap<String, CourseListPage<?>> pages = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.course.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코스 생성 단계별 타이머/카운터.
+ * course.create.stage{stage} 와 course.create{outcome}는 Prometheus 히스토그램 버킷으로 노출되어 백분위를 계산할 수 있다.
+ */
+@Component
+public class CourseMetrics {
+
+    public enum Stage {
+        VALIDATION("validation"),
+        NORMALIZATION("normalization"),
+        POI_LOOKUP("poi_lookup"),
+        POI_WRITE("poi_write"),
+        POI_SET_PERSIST("poi_set_persist"),
+        COMMIT("commit");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Timer committed;
+    private final Timer rolledBack;
+    private final Counter poisDeduplicated;
+    private final Counter poisCoalesced;
+    private final Counter poisCreated;
+    private final Counter poisUpdated;
+    private final Counter poiWriteRetries;
+    private final Counter poiContentSkipped;
+    private final Counter poiContentWritten;
+
+    public CourseMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("course.create.stage")
+                    .description("Time spent in each stage of course creation")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.committed = totalTimer(meterRegistry, "committed");
+        this.rolledBack = totalTimer(meterRegistry, "rolled_back");
+        this.poisDeduplicated = poiCounter(meterRegistry, "deduplicated", "POIs already stored with the same content");
+        this.poisCoalesced = poiCounter(meterRegistry, "coalesced", "POIs reused from a concurrent in-flight upsert of the same key");
+        this.poisCreated = poiCounter(meterRegistry, "created", "POIs inserted by the upsert");
+        this.poisUpdated = poiCounter(meterRegistry, "updated", "Existing POIs rewritten by the upsert");
+        this.poiWriteRetries = Counter.builder("course.create.poi.write.retries")
+                .description("POI upsert transactions retried after a deadlock, lock or unique-key conflict")
+                .register(meterRegistry);
+        this.poiContentSkipped = poiContentCounter(meterRegistry, "skipped", "POIs whose stored content hash matched, so no row was written");
+        this.poiContentWritten = poiContentCounter(meterRegistry, "written", "POI rows inserted or rewritten because the content hash differed");
+    }
+
+    /**
+     * startNanos부터 현재까지를 해당 단계로 기록하고, 다음 단계의 시작 시각(현재)을 반환
+     */
+    public long recordStage(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimers.get(stage).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 단계(최종 flush 포함)와 요청 전체 시간을 트랜잭션 종료 시 기록
+     */
+    public void trackTransaction(long startNanos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStart;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStart = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                long now = System.nanoTime();
+                if (status == STATUS_COMMITTED) {
+                    stageTimers.get(Stage.COMMIT).record(now - commitStart, TimeUnit.NANOSECONDS);
+                    committed.record(now - startNanos, TimeUnit.NANOSECONDS);
+                } else {
+                    rolledBack.record(now - startNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        });
+    }
+
+    public void recordPois(int deduplicated, int coalesced, int created, int updated) {
+        poisDeduplicated.increment(deduplicated);
+        poisCoalesced.increment(coalesced);
+        poisCreated.increment(created);
+        poisUpdated.increment(updated);
+    }
+
+    /**
+     * 내용 해시 비교 결과 - skipped / (skipped + written)이 변경 없는 POI 비율
+     */
+    public void recordPoiContent(int skipped, int written) {
+        poiContentSkipped.increment(skipped);
+        poiContentWritten.increment(written);
+    }
+
+    public void recordPoiWriteRetry() {
+        poiWriteRetries.increment();
+    }
+
+    private static Timer totalTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("course.create")
+                .description("Total course creation time including commit")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter poiCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("course.create.pois")
+                .description(description)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter poiContentCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("course.create.poi.content")
+                .description(description)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.course.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * (created_at, id) 키셋 기반 코스 목록 페이지
+ */
+public record CoursePage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * size + 1건까지 조회한 결과로 페이지 구성 - 초과분이 있으면 size번째 항목을 다음 커서로 사용
+     */
+    public static <T> CoursePage<T> of(List<T> rows, int size, Function<? super T, Cursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CoursePage<>(rows, null);
+        }
+        List<T> page = rows.subList(0, size);
+        return new CoursePage<>(page, cursorOf.apply(page.get(size - 1)).encode());
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CoursePage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CoursePage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * 마지막으로 반환된 코스의 (created_at, id) - 불투명한 base64url 문자열로 주고받는다.
+     */
+    public record Cursor(Instant createdAt, String courseId) {
+
+        private static final char SEPARATOR = '|';
+
+        public String encode() {
+            String raw = createdAt.toString() + SEPARATOR + courseId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(SEPARATOR);
+                if (separator <= 0 || separator == raw.length() - 1) {
+                    throw new IllegalArgumentException("Invalid course cursor: " + value);
+                }
+                return new Cursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid course cursor: " + value, ex);
+            }
+        }
+    }
+}
@@ -2,20 +2,42 @@ package com.example.course.service;
 
 import com.example.course.api.dto.Requset.CreateCourseRequest;
 import com.example.course.api.dto.Requset.CreateCourseRequest.PoiItem;
+import com.example.course.api.dto.Response.CourseResponse;
+import com.example.course.api.dto.Response.CourseSummaryResponse;
+import com.example.course.api.dto.Response.PoiOpenStatusResponse;
 import com.example.course.domain.Course;
+import com.example.course.domain.OpenHoursSchedule;
 import com.example.course.domain.Poi;
+import com.example.course.domain.PoiKey;
 import com.example.course.domain.PoiSet;
 import com.example.course.domain.service.CourseDomainService;
+import com.example.course.repository.CourseIdempotencyKeyRepository;
+import com.example.course.repository.CourseQueryRepository.CourseListVersion;
+import com.example.course.repository.CourseQueryRepository.PagedCourse;
 import com.example.course.repository.CourseRepository;
+import com.example.course.repository.CourseSummary;
 import com.example.course.repository.PoiRepository;
 import com.example.course.repository.PoiSetRepository;
+import com.example.course.repository.PoiUpsertRepository.UpsertedPoi;
+import com.example.course.service.CourseMetrics.Stage;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
@@ -27,27 +49,153 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final PoiRepository poiRepository;
     private final PoiSetRepository poiSetRepository;
+    private final CourseIdempotencyKeyRepository courseIdempotencyKeyRepository;
     private final CourseDomainService courseDomainService;
+    private final CourseListCache courseListCache;
+    private final PoiSpatialIndex poiSpatialIndex;
+    private final CourseMetrics courseMetrics;
+    private final PoiUpsertCoalescer poiUpsertCoalescer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate snapshotTransaction;
 
-    private static final Pattern MOOD_TAG_PATTERN = Pattern.compile("^[-\\p{L}\\p{N}\\s,]+$");
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    /** cursor/size 없이 호출한 기존 클라이언트용 전체 목록 (size + 1 조회가 int 범위를 넘지 않도록 -1) */
+    private static final int UNPAGED = Integer.MAX_VALUE - 1;
+    public static final int MAX_BULK_DELETE_SIZE = 100;
+    private static final int MAX_POI_WRITE_ATTEMPTS = 3;
 
     public CourseService(CourseRepository courseRepository,
                          PoiRepository poiRepository,
                          PoiSetRepository poiSetRepository,
-                         CourseDomainService courseDomainService) {
+                         CourseIdempotencyKeyRepository courseIdempotencyKeyRepository,
+                         CourseDomainService courseDomainService,
+                         CourseListCache courseListCache,
+                         PoiSpatialIndex poiSpatialIndex,
+                         CourseMetrics courseMetrics,
+                         PoiUpsertCoalescer poiUpsertCoalescer,
+                         PlatformTransactionManager transactionManager) {
         this.courseRepository = courseRepository;
         this.poiRepository = poiRepository;
         this.poiSetRepository = poiSetRepository;
+        this.courseIdempotencyKeyRepository = courseIdempotencyKeyRepository;
         this.courseDomainService = courseDomainService;
+        this.courseListCache = courseListCache;
+        this.poiSpatialIndex = poiSpatialIndex;
+        this.courseMetrics = courseMetrics;
+        this.poiUpsertCoalescer = poiUpsertCoalescer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        // 목록 버전과 페이지를 같은 스냅샷에서 읽기 위한 읽기 전용 트랜잭션
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
     }
 
 
+    /**
+     * 코스 생성 - POI는 코스와 분리된 짧은 트랜잭션에서 먼저 기록(동시 요청 간 single-flight)하고,
+     * 코스와 코스-POI 매핑은 별도 트랜잭션으로 저장한다. 코스 저장이 실패해 남은 POI는 OrphanPoiCollector가 정리한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CourseCreationResult createCourse(String coupleId, CreateCourseRequest request) {
-        long startTime = System.currentTimeMillis();
-        log.info("{} 코스 생성 시작 coupleId={} title={} poiCount={}", LOG_PREFIX, coupleId, request.title(), request.data().size());
+        return createCourses(List.of(prepareCourse(coupleId, request))).get(0);
+    }
+
+    /**
+     * Idempotency-Key와 함께 코스 생성 - 키 기록은 코스와 같은 트랜잭션에서 저장되어 키 충돌 시 코스도 롤백된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CourseCreationResult createCourse(String coupleId, CreateCourseRequest request, IdempotencyKey idempotencyKey) {
+        return createCourses(List.of(prepareCourse(coupleId, request).withIdempotencyKey(idempotencyKey))).get(0);
+    }
+
+    /**
+     * 코스 생성 요청 검증 및 POI 정규화 (DB 접근 없음) - 비동기 접수 시 202 응답 전에 400을 판별하는 데도 사용
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PreparedCourse prepareCourse(String coupleId, CreateCourseRequest request) {
+        long startTime = System.nanoTime();
+        log.info("{} 코스 생성 시작 coupleId={} title={} poiCount={}", LOG_PREFIX, coupleId, request.title(),
+                request.data() != null ? request.data().size() : 0);
 
         // 도메인 검증
         courseDomainService.validateCourseCreation(coupleId, request.title(), request.data());
+        long stageStart = courseMetrics.recordStage(Stage.VALIDATION, startTime);
+
+        // POI 검증/정규화 (단일 패스, moodTag 유효성 포함)
+        List<PoiItem> items = request.data();
+        List<Poi> normalizedPois = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            normalizedPois.add(courseDomainService.normalizePoiData(items.get(i), i));
+        }
+        courseMetrics.recordStage(Stage.NORMALIZATION, stageStart);
+        return new PreparedCourse(coupleId, request, normalizedPois, null);
+    }
+
+    /**
+     * 준비된 코스들을 저장 - 모든 코스의 POI를 한 번에 upsert하고, 코스와 코스-POI 매핑은 하나의 트랜잭션으로 저장한다.
+     * 결과는 입력 순서를 따른다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CourseCreationResult> createCourses(List<PreparedCourse> preparedCourses) {
+        long startTime = System.nanoTime();
+        List<Poi> normalizedPois = new ArrayList<>();
+        for (PreparedCourse prepared : preparedCourses) {
+            normalizedPois.addAll(prepared.normalizedPois());
+        }
+
+        // POI 일괄 upsert 후 코스-POI 매핑 저장
+        Map<PoiKey, Long> poiIds = upsertPois(normalizedPois, startTime);
+        return writeTransaction.execute(status -> {
+            courseMetrics.trackTransaction(startTime);
+            lockPois(normalizedPois, poiIds);
+            List<CourseCreationResult> results = new ArrayList<>(preparedCourses.size());
+            for (PreparedCourse prepared : preparedCourses) {
+                results.add(persistCourse(prepared, poiIds));
+            }
+            return results;
+        });
+    }
+
+    /**
+     * 매핑할 POI를 FOR KEY SHARE로 잠가 커밋 전까지 고아 POI 정리에서 삭제되지 않게 한다.
+     * upsert 트랜잭션 이후 정리로 이미 삭제된 POI는 이 트랜잭션에서 다시 기록하고 새 id로 매핑한다.
+     */
+    private void lockPois(List<Poi> normalizedPois, Map<PoiKey, Long> poiIds) {
+        Set<Long> locked = poiRepository.lockForKeyShare(new HashSet<>(poiIds.values()));
+        if (locked.size() == poiIds.size()) {
+            return;
+        }
+        Map<PoiKey, Poi> missing = new LinkedHashMap<>();
+        for (Poi normalizedPoi : normalizedPois) {
+            PoiKey key = PoiKey.of(normalizedPoi);
+            if (!locked.contains(poiIds.get(key))) {
+                missing.put(key, normalizedPoi);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        log.warn("{} 재사용할 POI가 정리되어 다시 기록 count={}", LOG_PREFIX, missing.size());
+        List<Poi> sortedPois = new ArrayList<>(missing.values());
+        sortedPois.sort(Comparator.comparing(PoiKey::of, PoiKey.LOCK_ORDER));
+        List<UpsertedPoi> upserted = poiRepository.upsertAll(sortedPois);
+        for (UpsertedPoi row : upserted) {
+            poiIds.put(row.key(), row.id());
+        }
+        // 다시 기록된 행은 updated_at이 갱신되어 유예 기간 동안 정리 대상이 아니며, 재사용된 행만 잠금
+        poiRepository.lockForKeyShare(upserted.stream().filter(row -> !row.written()).map(UpsertedPoi::id).toList());
+        poiSpatialIndex.putAfterCommit(indexEntries(sortedPois, upserted));
+    }
+
+    private CourseCreationResult persistCourse(PreparedCourse prepared, Map<PoiKey, Long> poiIds) {
+        long stageStart = System.nanoTime();
+        String coupleId = prepared.coupleId();
+        CreateCourseRequest request = prepared.request();
+        List<Poi> normalizedPois = prepared.normalizedPois();
 
         // 코스 생성 및 초기화
         Course course = new Course();
@@ -56,148 +204,358 @@ public class CourseService {
         Course persistedCourse = courseRepository.save(course);
         log.info("{} 코스 저장 완료 courseId={} coupleId={}", LOG_PREFIX, persistedCourse.getId(), coupleId);
 
-        // POI 처리
-        List<PoiSet> poiSets = new ArrayList<>();
+        IdempotencyKey idempotencyKey = prepared.idempotencyKey();
+        if (idempotencyKey != null) {
+            courseIdempotencyKeyRepository.insert(coupleId, idempotencyKey.key(), idempotencyKey.requestHash(),
+                    persistedCourse.getId(), Instant.now());
+        }
+
         List<PoiItem> items = request.data();
+        List<PoiSet> poiSets = new ArrayList<>(items.size());
         for (int i = 0; i < items.size(); i++) {
-            PoiItem item = items.get(i);
-            // 데이터 정규화 수행
-            PoiItem normalizedItem = item.normalizeData();
-
-            // moodTag 유효성 및 정규화 처리
-            PoiItem sanitizedItem = sanitizeMoodTag(normalizedItem, i);
-
-            Poi poi = upsertPoi(sanitizedItem);
-            Integer order = sanitizedItem.seq() != null ? sanitizedItem.seq() : i + 1;
+            Long poiId = poiIds.get(PoiKey.of(normalizedPois.get(i)));
+            Poi poi = poiRepository.getReferenceById(poiId);
+            Integer seq = items.get(i).seq();
+            Integer order = seq != null ? seq : i + 1;
 
             PoiSet poiSet = new PoiSet();
             poiSet.setCourse(persistedCourse);
             poiSet.setPoi(poi);
             poiSet.setOrderIndex(order);
-            PoiSet savedPoiSet = poiSetRepository.save(poiSet);
-            poiSets.add(savedPoiSet);
-            log.info("{} 코스-POI 매핑 저장 courseId={} poiSetId={} order={} poiId={}",
-                    LOG_PREFIX, persistedCourse.getId(), savedPoiSet.getId(), order, poi.getId());
+            poiSets.add(poiSet);
+        }
+
+        // 시퀀스 기반 ID이므로 INSERT는 flush 시점에 JDBC 배치로 전송됨 (코스 행 포함, 커밋 단계와 분리해 측정하도록 여기서 flush)
+        List<PoiSet> savedPoiSets = poiSetRepository.saveAllAndFlush(poiSets);
+        if (log.isDebugEnabled()) {
+            for (PoiSet savedPoiSet : savedPoiSets) {
+                log.debug("{} 코스-POI 매핑 저장 courseId={} poiSetId={} order={} poiId={}",
+                        LOG_PREFIX, persistedCourse.getId(), savedPoiSet.getId(), savedPoiSet.getOrderIndex(), savedPoiSet.getPoi().getId());
+            }
         }
 
+        courseMetrics.recordStage(Stage.POI_SET_PERSIST, stageStart);
+
         persistedCourse.getPoiSets().addAll(poiSets);
-        
-        long endTime = System.currentTimeMillis();
-        log.info("{} 코스 생성 완료 courseId={} 처리시간={}ms", LOG_PREFIX, persistedCourse.getId(), endTime - startTime);
+        courseListCache.evictAfterCommit(coupleId);
+
+        log.info("{} 코스 생성 완료 courseId={}", LOG_PREFIX, persistedCourse.getId());
         return new CourseCreationResult(persistedCourse, poiSets);
     }
 
+    /**
+     * 첫 페이지는 캐시에서 반환 - 캐시 적중 시 트랜잭션/커넥션을 사용하지 않도록 조회 시에만 트랜잭션을 연다.
+     * 페이지는 같은 스냅샷에서 읽은 목록 버전과 함께 반환되어, 응답 ETag가 실제 본문과 일치한다.
+     * current는 호출자가 방금 읽은 목록 버전으로, 캐시된 페이지의 버전과 다르면 다시 조회한다.
+     * cursor와 size가 모두 없으면 페이지 도입 전과 같이 전체 목록을 반환한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CourseListPage<CourseResponse> findCoursePage(String coupleId, String cursor, Integer size,
+                                                         CourseListVersion current) {
+        log.info("{} 커플 코스 조회 coupleId={} size={} cursor존재={}", LOG_PREFIX, coupleId, size, cursor != null);
+        CoursePage.Cursor after = CoursePage.Cursor.decode(cursor);
+        int pageSize = resolvePageSize(size, after);
+        Supplier<CourseListPage<CourseResponse>> loader = () -> snapshotTransaction.execute(status ->
+                new CourseListPage<>(findPageVersion(coupleId, after, pageSize), loadCoursePage(coupleId, after, pageSize)));
+        return after == null ? courseListCache.get(coupleId, "full", pageSize, current, loader) : loader.get();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CourseListPage<CourseSummaryResponse> findCourseSummaryPage(String coupleId, String cursor, Integer size,
+                                                                       CourseListVersion current) {
+        log.info("{} 커플 코스 요약 조회 coupleId={} size={} cursor존재={}", LOG_PREFIX, coupleId, size, cursor != null);
+        CoursePage.Cursor after = CoursePage.Cursor.decode(cursor);
+        int pageSize = resolvePageSize(size, after);
+        Supplier<CourseListPage<CourseSummaryResponse>> loader = () -> snapshotTransaction.execute(status ->
+                new CourseListPage<>(findPageVersion(coupleId, after, pageSize), loadSummaryPage(coupleId, after, pageSize)));
+        return after == null ? courseListCache.get(coupleId, "summary", pageSize, current, loader) : loader.get();
+    }
+
+    /**
+     * 요청한 페이지(cursor/size)의 현재 버전 - 그 페이지 범위만 집계하는 쿼리 1회로 계산하며 엔티티는 로딩하지 않는다.
+     */
     @Transactional(readOnly = true)
-    public List<Course> findCoursesByCoupleId(String coupleId) {
-        log.info("{} 커플 코스 조회 coupleId={}", LOG_PREFIX, coupleId);
-
-        List<Course> courses = courseRepository.findAllByCoupleIdWithPoiSets(coupleId);
-        if (courses.isEmpty()) {
-            log.info("{} 커플 코스 없음 - 빈 리스트 반환 coupleId={}", LOG_PREFIX, coupleId);
-            return new ArrayList<>();
-        }
-        
-        log.info("{} 커플 코스 조회 완료 coupleId={} courseCount={}", LOG_PREFIX, coupleId, courses.size());
-        Comparator<PoiSet> orderComparator = Comparator
-                .comparing(PoiSet::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder()))
-                .thenComparing(PoiSet::getId, Comparator.nullsLast(Comparator.naturalOrder()));
-        courses.forEach(course -> {
-            course.getPoiSets().sort(orderComparator);
-            course.getPoiSets().forEach(poiSet -> {
-                Poi poi = poiSet.getPoi();
-                if (poi != null && poi.getFoodTag() != null) {
-                    poi.getFoodTag().size();
-                }
-            });
-        });
-        return courses;
+    public CourseListVersion findCourseListVersion(String coupleId, String cursor, Integer size) {
+        CoursePage.Cursor after = CoursePage.Cursor.decode(cursor);
+        return findPageVersion(coupleId, after, resolvePageSize(size, after));
     }
 
+    /**
+     * 다음 페이지 존재 여부도 응답에 드러나므로 페이지 조회와 같이 size + 1건 범위로 집계
+     */
+    private CourseListVersion findPageVersion(String coupleId, CoursePage.Cursor after, int size) {
+        return after == null
+                ? courseRepository.findCourseListVersion(coupleId, null, null, size + 1)
+                : courseRepository.findCourseListVersion(coupleId, after.createdAt(), after.courseId(), size + 1);
+    }
 
-    public void deleteCourse(String coupleId, String courseId) {
-          log.info("{} 코스 삭제 요청 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
-          Course course = courseRepository.findByIdAndCoupleId(courseId, coupleId)
-                  .orElseThrow(() -> {
-                      log.warn("{} 삭제 대상 코스 없음 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
-                      return new EntityNotFoundException("Course not found for coupleId: " + coupleId + ", courseId: " + courseId);
-                  });
-          courseRepository.delete(course);
-          log.info("{} 코스 삭제 완료 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
-      }
-
-  
- public void updateReviewScore(String userId, String coupleId, String courseId, int reviewScore) {
-          log.info("{} 코스 평점 업데이트 요청 coupleId={} courseId={} userId={} score={}", LOG_PREFIX, coupleId, courseId, userId, reviewScore);
-   
-        Course course = courseRepository.findByIdAndCoupleId(courseId, coupleId)
-                .orElseThrow(() -> {
-                    log.warn("{} 평점 업데이트 대상 코스 없음 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
-                    return new EntityNotFoundException("Course not found for coupleId: " + coupleId + ", courseId: " + courseId);
-                });
-        course.setScore((long) reviewScore);
-        log.info("{} 코스 평점 업데이트 완료 courseId={} score={}", LOG_PREFIX, course.getId(), reviewScore);
+    /**
+     * 코스 목록 응답의 강한 ETag - 같은 데이터라도 view/size/cursor가 다르면 응답이 다르므로 함께 반영한다.
+     */
+    public static String courseListETag(CourseListVersion version, String view, String cursor, Integer size) {
+        String source = String.join("|",
+                view.toLowerCase(Locale.ROOT),
+                size != null ? size.toString() : "",
+                cursor != null ? cursor : "",
+                Long.toString(version.courseCount()),
+                version.courseIds() != null ? version.courseIds() : "",
+                Long.toString(version.poiSetCount()),
+                version.lastModified() != null ? version.lastModified().toString() : "");
+        return '"' + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + '"';
     }
 
-    private Poi upsertPoi(PoiItem item) {
-        Optional<Poi> existingOptional = poiRepository.findByNameAndLatAndLng(item.name(), item.lat(), item.lng());
-        if (existingOptional.isPresent()) {
-            Poi existing = existingOptional.get();
-            log.info("{} POI 중복 감지 - 업데이트 name={} lat={} lng={} poiId={}", LOG_PREFIX, item.name(), item.lat(), item.lng(), existing.getId());
-            
-            // 도메인 서비스를 통한 POI 데이터 정규화
-            Poi normalizedPoi = courseDomainService.normalizePoiData(item);
-            existing.updateFrom(normalizedPoi);
-            
-            Poi updated = poiRepository.save(existing);
-            log.info("{} POI 업데이트 완료 poiId={}", LOG_PREFIX, updated.getId());
-            return updated;
+    /**
+     * 엔티티 로딩 없이 DTO로 직접 조회 (course/poi_set/poi 조인 1회)
+     */
+    private CoursePage<CourseResponse> loadCoursePage(String coupleId, CoursePage.Cursor after, int size) {
+        List<PagedCourse> rows = after == null
+                ? courseRepository.findCourseResponses(coupleId, null, null, size + 1)
+                : courseRepository.findCourseResponses(coupleId, after.createdAt(), after.courseId(), size + 1);
+        CoursePage<CourseResponse> page = CoursePage.of(rows, size,
+                row -> new CoursePage.Cursor(row.createdAt(), row.course().courseId())).map(PagedCourse::course);
+
+        if (page.items().isEmpty()) {
+            log.info("{} 커플 코스 없음 - 빈 페이지 반환 coupleId={}", LOG_PREFIX, coupleId);
+        } else {
+            log.info("{} 커플 코스 조회 완료 coupleId={} courseCount={} hasNext={}",
+                    LOG_PREFIX, coupleId, page.items().size(), page.hasNext());
         }
+        return page;
+    }
 
-        // 도메인 서비스를 통한 POI 데이터 정규화
-        Poi poi = courseDomainService.normalizePoiData(item);
-        Poi saved = poiRepository.save(poi);
-        log.info("{} 신규 POI 생성 name={} poiId={}", LOG_PREFIX, item.name(), saved.getId());
-        return saved;
+    /**
+     * (created_at, id) 키셋 페이지 조회 - 다음 페이지 존재 여부 확인을 위해 size + 1건 조회
+     */
+    private CoursePage<CourseSummaryResponse> loadSummaryPage(String coupleId, CoursePage.Cursor after, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<CourseSummary> rows = after == null
+                ? courseRepository.findSummariesByCoupleId(coupleId, limit)
+                : courseRepository.findSummariesByCoupleIdAfter(coupleId, after.createdAt(), after.courseId(), limit);
+        return CoursePage.of(rows, size, row -> new CoursePage.Cursor(row.getCreatedAt(), row.getId()))
+                .map(CourseSummaryResponse::from);
     }
 
-    private PoiItem sanitizeMoodTag(PoiItem item, int index) {
-        String moodTag = item.moodTag();
-        if (moodTag == null) {
-            return item;
+    /**
+     * size 생략 시 첫 요청은 전체 목록, 커서로 이어 읽는 요청은 기본 페이지 크기
+     */
+    private int resolvePageSize(Integer size, CoursePage.Cursor after) {
+        if (size == null) {
+            return after == null ? UNPAGED : DEFAULT_PAGE_SIZE;
         }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+        }
+        return size;
+    }
 
-        String trimmed = moodTag.trim();
-        if (trimmed.isEmpty()) {
-            throw new IllegalArgumentException("moodTag cannot be blank at index " + index);
+
+    /**
+     * 코스의 각 장소가 주어진 요일/시각에 영업 중인지 조회 (자정 넘김, 24:00 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<PoiOpenStatusResponse> findOpenStatus(String coupleId, String courseId, String day, String time) {
+        int minuteOfWeek = OpenHoursSchedule.minuteOfWeek(day, time);
+        Course course = courseRepository.findByIdWithPoiSets(courseId)
+                .filter(found -> coupleId.equals(found.getCoupleId()))
+                .orElseThrow(() -> new EntityNotFoundException("Course not found for coupleId: " + coupleId + ", courseId: " + courseId));
+        return course.getPoiSets().stream()
+                .map(poiSet -> PoiOpenStatusResponse.of(poiSet, minuteOfWeek))
+                .toList();
+    }
+
+    /**
+     * 코스 삭제 - 코스/매핑을 로드하지 않고 poi_set, course 순서로 DELETE 문 실행
+     */
+    public void deleteCourse(String coupleId, String courseId) {
+        log.info("{} 코스 삭제 요청 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
+        List<String> courseIds = List.of(courseId);
+        poiSetRepository.deleteByCourseIdsAndCoupleId(courseIds, coupleId);
+        if (courseRepository.deleteByIdAndCoupleId(courseId, coupleId) == 0) {
+            log.warn("{} 삭제 대상 코스 없음 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
+            throw new EntityNotFoundException("Course not found for coupleId: " + coupleId + ", courseId: " + courseId);
         }
-        if (trimmed.length() > 50) {
-            throw new IllegalArgumentException("moodTag length must be <= 50 at index " + index + ": " + trimmed.length());
+        courseListCache.evictAfterCommit(coupleId);
+        log.info("{} 코스 삭제 완료 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
+    }
+
+    /**
+     * 여러 코스 일괄 삭제 - 커플 소유가 아니거나 없는 id는 건너뛰고, 중복 제거한 요청 수와 실제 삭제된 코스 수 반환
+     */
+    public BulkDeleteResult deleteCourses(String coupleId, List<String> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            throw new IllegalArgumentException("courseIds must not be empty");
+        }
+        Set<String> distinctIds = new LinkedHashSet<>();
+        for (String courseId : courseIds) {
+            if (courseId == null || courseId.isBlank()) {
+                throw new IllegalArgumentException("courseIds must not contain blank values");
+            }
+            distinctIds.add(courseId.trim());
+        }
+        if (distinctIds.size() > MAX_BULK_DELETE_SIZE) {
+            throw new IllegalArgumentException("courseIds size must be <= " + MAX_BULK_DELETE_SIZE + ": " + distinctIds.size());
         }
-        if (!MOOD_TAG_PATTERN.matcher(trimmed).matches()) {
-            throw new IllegalArgumentException("moodTag contains invalid characters at index " + index + ": " + moodTag);
+        log.info("{} 코스 일괄 삭제 요청 coupleId={} count={}", LOG_PREFIX, coupleId, distinctIds.size());
+        int poiSets = poiSetRepository.deleteByCourseIdsAndCoupleId(distinctIds, coupleId);
+        int deleted = courseRepository.deleteAllByIdInAndCoupleId(distinctIds, coupleId);
+        if (deleted > 0) {
+            courseListCache.evictAfterCommit(coupleId);
         }
+        log.info("{} 코스 일괄 삭제 완료 coupleId={} 요청={} 삭제={} 매핑삭제={}",
+                LOG_PREFIX, coupleId, distinctIds.size(), deleted, poiSets);
+        return new BulkDeleteResult(distinctIds.size(), deleted);
+    }
 
-        log.info("{} ✨ moodTag sanitized index={} value={}", LOG_PREFIX, index, trimmed);
+    /**
+     * 평점 갱신 - 코스를 로드하지 않고 단일 UPDATE 문으로 score/updated_at만 기록
+     */
+    public void updateReviewScore(String userId, String coupleId, String courseId, int reviewScore) {
+        log.info("{} 코스 평점 업데이트 요청 coupleId={} courseId={} userId={} score={}", LOG_PREFIX, coupleId, courseId, userId, reviewScore);
+        Long score = (long) reviewScore;
+        courseDomainService.validateScoreUpdate(score);
 
-        return new PoiItem(
-                item.seq(),
-                item.name(),
-                item.category(),
-                item.lat(),
-                item.lng(),
-                item.indoor(),
-                item.priceLevel(),
-                item.openHours(),
-                item.alcohol(),
-                trimmed,
-                item.foodTag(),
-                item.ratingAvg(),
-                item.link()
-        );
+        int updated = courseRepository.updateScore(courseId, coupleId, score, Instant.now());
+        if (updated == 0) {
+            log.warn("{} 평점 업데이트 대상 코스 없음 coupleId={} courseId={}", LOG_PREFIX, coupleId, courseId);
+            throw new EntityNotFoundException("Course not found for coupleId: " + coupleId + ", courseId: " + courseId);
+        }
+        courseListCache.evictAfterCommit(coupleId);
+        log.info("{} 코스 평점 업데이트 완료 courseId={} score={}", LOG_PREFIX, courseId, reviewScore);
     }
 
+    /**
+     * 요청의 모든 POI를 한 번의 조회로 확인하고, 신규/변경된 POI만 단일 upsert 문으로 기록
+     * (동시 요청의 같은 POI 기록은 PoiUpsertCoalescer에서 하나로 합쳐짐)
+     */
+    private Map<PoiKey, Long> upsertPois(List<Poi> normalizedPois, long stageStart) {
+        // 동일 키가 반복되면 마지막 항목 기준
+        Map<PoiKey, Poi> normalizedByKey = new LinkedHashMap<>();
+        for (Poi normalizedPoi : normalizedPois) {
+            normalizedByKey.put(PoiKey.of(normalizedPoi), normalizedPoi);
+        }
+
+        // 자연 키 일괄 조회 (2차 캐시를 거치지 않음, 비교는 내용 해시, 해시가 없는 기존 행만 필드 비교)
+        Map<PoiKey, Long> poiIds = new HashMap<>();
+        Map<PoiKey, Poi> pending = new LinkedHashMap<>(normalizedByKey);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (Poi existing : poiRepository.findAllByKeys(normalizedByKey.keySet())) {
+                PoiKey key = PoiKey.of(existing);
+                Poi normalizedPoi = pending.get(key);
+                if (normalizedPoi != null && existing.hasSameContent(normalizedPoi)) {
+                    pending.remove(key);
+                    poiIds.put(key, existing.getId());
+                    log.debug("{} POI 중복 감지 - 변경 없음 name={} lat={} lng={} poiId={}",
+                            LOG_PREFIX, key.name(), key.lat(), key.lng(), existing.getId());
+                }
+            }
+        });
+        stageStart = courseMetrics.recordStage(Stage.POI_LOOKUP, stageStart);
+
+        int created = 0;
+        int written = 0;
+        int coalesced = 0;
+        if (!pending.isEmpty()) {
+            PoiUpsertCoalescer.Result result = poiUpsertCoalescer.upsert(new ArrayList<>(pending.values()), this::writePois);
+            coalesced = result.coalesced();
+            for (UpsertedPoi upserted : result.upserted()) {
+                poiIds.put(upserted.key(), upserted.id());
+                if (upserted.created()) {
+                    created++;
+                    log.debug("{} 신규 POI 생성 name={} poiId={}", LOG_PREFIX, upserted.key().name(), upserted.id());
+                } else if (upserted.written()) {
+                    log.debug("{} POI 업데이트 완료 name={} poiId={}", LOG_PREFIX, upserted.key().name(), upserted.id());
+                }
+                if (upserted.written()) {
+                    written++;
+                }
+            }
+            courseMetrics.recordStage(Stage.POI_WRITE, stageStart);
+        }
+        int unchanged = normalizedByKey.size() - written - coalesced;
+        courseMetrics.recordPois(unchanged, coalesced, created, written - created);
+        courseMetrics.recordPoiContent(unchanged, written);
+        log.info("{} POI upsert 완료 요청={} 변경없음={} 기록={} 합침={}",
+                LOG_PREFIX, normalizedByKey.size(), unchanged, written, coalesced);
+        return poiIds;
+    }
+
+    /**
+     * POI 기록 트랜잭션 - 교착/잠금 실패나 동시 삽입 충돌은 전체 요청 실패 대신 짧은 대기 후 재시도
+     */
+    private List<UpsertedPoi> writePois(List<Poi> sortedPois) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return writeTransaction.execute(status -> {
+                    List<UpsertedPoi> upserted = poiRepository.upsertAll(sortedPois);
+                    poiSpatialIndex.putAfterCommit(indexEntries(sortedPois, upserted));
+                    return upserted;
+                });
+            } catch (TransientDataAccessException | DuplicateKeyException ex) {
+                if (attempt >= MAX_POI_WRITE_ATTEMPTS) {
+                    throw ex;
+                }
+                courseMetrics.recordPoiWriteRetry();
+                log.warn("{} POI 기록 충돌 - 재시도 attempt={} count={} message={}",
+                        LOG_PREFIX, attempt, sortedPois.size(), ex.getMessage());
+                backOff(attempt);
+            }
+        }
+    }
+
+    private static List<PoiSpatialIndex.Entry> indexEntries(List<Poi> written, List<UpsertedPoi> upserted) {
+        Map<PoiKey, Poi> byKey = new HashMap<>();
+        written.forEach(poi -> byKey.put(PoiKey.of(poi), poi));
+        List<PoiSpatialIndex.Entry> entries = new ArrayList<>(upserted.size());
+        for (UpsertedPoi row : upserted) {
+            if (!row.written()) {
+                continue;
+            }
+            Poi poi = byKey.get(row.key());
+            entries.add(new PoiSpatialIndex.Entry(row.id(), poi.getLat(), poi.getLng(),
+                    poi.getCategory(), Boolean.TRUE.equals(poi.getIndoor()), poi.getOpenMinutes()));
+        }
+        return entries;
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(5, 20) * attempt);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying POI upsert", ex);
+        }
+    }
 
     public record CourseCreationResult(Course course, List<PoiSet> poiSets) {
     }
 
+    /**
+     * requested: 중복/공백 제거 후 요청된 코스 id 수, deleted: 실제 삭제된 코스 수
+     */
+    public record BulkDeleteResult(int requested, int deleted) {
+    }
+
+    /**
+     * 코스 목록 페이지와 그 페이지를 읽은 시점의 목록 버전 (ETag 계산에 사용)
+     */
+    public record CourseListPage<T>(CourseListVersion version, CoursePage<T> page) {
+    }
+
+    /**
+     * 검증/정규화를 마친 코스 생성 요청 (normalizedPois는 request.data()와 같은 순서, idempotencyKey는 없으면 null)
+     */
+    public record PreparedCourse(String coupleId, CreateCourseRequest request, List<Poi> normalizedPois,
+                                 IdempotencyKey idempotencyKey) {
+
+        public PreparedCourse withIdempotencyKey(IdempotencyKey idempotencyKey) {
+            return new PreparedCourse(coupleId, request, normalizedPois, idempotencyKey);
+        }
+    }
+
+    /**
+     * 커플 범위의 Idempotency-Key와 요청 본문 해시
+     */
+    public record IdempotencyKey(String key, String requestHash) {
+    }
+
 }
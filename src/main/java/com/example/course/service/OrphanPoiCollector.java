@@ -0,0 +1,182 @@
+package com.example.course.service;
+
+import com.example.course.repository.PoiRepository;
+import com.example.course.repository.PoiUpsertRepository.OrphanPoi;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 코스 삭제로 더 이상 참조되지 않는 POI를 주기적으로 정리.
+ * 유예 기간(grace-period) 동안 기록이 없던 POI만 대상으로, id 키셋 순서의 작은 청크를 청크별 트랜잭션으로 삭제한다.
+ * 같은 실행에서 보관 기간이 지난 Idempotency-Key도 정리한다.
+ * PostgreSQL 세션 advisory lock을 잡은 레플리카 하나만 실행한다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "course.poi-gc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrphanPoiCollector {
+
+    private static final String LOG_PREFIX = "[OrphanPoiCollector]";
+    /** pg advisory lock 키 - "POIGC" */
+    private static final long ADVISORY_LOCK_KEY = 0x504F49_4743L;
+
+    private final PoiRepository poiRepository;
+    private final PoiSpatialIndex poiSpatialIndex;
+    private final CourseIdempotencyService courseIdempotencyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final Duration gracePeriod;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration pauseBetweenChunks;
+
+    private final Counter deletedCounter;
+    private final Counter chunkCounter;
+    private final Timer completedRuns;
+    private final Timer skippedRuns;
+    private final Timer failedRuns;
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+
+    public OrphanPoiCollector(PoiRepository poiRepository,
+                              PoiSpatialIndex poiSpatialIndex,
+                              CourseIdempotencyService courseIdempotencyService,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${course.poi-gc.grace-period:PT24H}") Duration gracePeriod,
+                              @Value("${course.poi-gc.chunk-size:500}") int chunkSize,
+                              @Value("${course.poi-gc.max-chunks-per-run:200}") int maxChunksPerRun,
+                              @Value("${course.poi-gc.pause-between-chunks:PT0.05S}") Duration pauseBetweenChunks) {
+        this.poiRepository = poiRepository;
+        this.poiSpatialIndex = poiSpatialIndex;
+        this.courseIdempotencyService = courseIdempotencyService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.gracePeriod = gracePeriod;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseBetweenChunks = pauseBetweenChunks;
+
+        this.deletedCounter = Counter.builder("poi.gc.deleted")
+                .description("Orphan POIs deleted by the collector")
+                .register(meterRegistry);
+        this.chunkCounter = Counter.builder("poi.gc.chunks")
+                .description("Delete chunks committed by the collector")
+                .register(meterRegistry);
+        this.completedRuns = runTimer(meterRegistry, "completed");
+        this.skippedRuns = runTimer(meterRegistry, "skipped");
+        this.failedRuns = runTimer(meterRegistry, "failed");
+        meterRegistry.gauge("poi.gc.last.run.deleted", lastRunDeleted);
+    }
+
+    @Scheduled(fixedDelayString = "${course.poi-gc.interval:PT10M}",
+            initialDelayString = "${course.poi-gc.initial-delay:PT5M}")
+    public void collect() {
+        long startTime = System.nanoTime();
+        try {
+            Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+                if (!advisoryLock(connection, "select pg_try_advisory_lock(?)")) {
+                    return false;
+                }
+                try {
+                    collectChunks();
+                    courseIdempotencyService.purgeExpired();
+                    return true;
+                } finally {
+                    advisoryLock(connection, "select pg_advisory_unlock(?)");
+                }
+            });
+            if (Boolean.TRUE.equals(ran)) {
+                completedRuns.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            } else {
+                log.debug("{} 다른 인스턴스가 실행 중 - 건너뜀", LOG_PREFIX);
+                skippedRuns.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            }
+        } catch (DataAccessException ex) {
+            failedRuns.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            log.warn("{} 고아 POI 정리 실패 message={}", LOG_PREFIX, ex.getMessage());
+        }
+    }
+
+    /**
+     * 잠금은 이 커넥션에서 유지하고, 청크 삭제는 별도 트랜잭션(다른 커넥션)에서 커밋해 행 잠금을 짧게 유지
+     */
+    private void collectChunks() {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        long afterId = 0;
+        long deleted = 0;
+        int chunks = 0;
+        while (chunks < maxChunksPerRun) {
+            long cursor = afterId;
+            List<OrphanPoi> orphans = chunkTransaction.execute(status -> poiRepository.deleteOrphans(cursor, cutoff, chunkSize));
+            if (orphans == null || orphans.isEmpty()) {
+                break;
+            }
+            for (OrphanPoi orphan : orphans) {
+                poiSpatialIndex.remove(orphan.id(), orphan.lat(), orphan.lng());
+            }
+            afterId = orphans.get(orphans.size() - 1).id();
+            deleted += orphans.size();
+            chunks++;
+            deletedCounter.increment(orphans.size());
+            chunkCounter.increment();
+            if (!pause()) {
+                break;
+            }
+        }
+        lastRunDeleted.set(deleted);
+        if (deleted > 0) {
+            log.info("{} 고아 POI 정리 완료 삭제={} 청크={} 마지막id={}", LOG_PREFIX, deleted, chunks, afterId);
+        }
+    }
+
+    private boolean pause() {
+        if (pauseBetweenChunks.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunks.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static Timer runTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("poi.gc.run")
+                .description("Orphan POI collector runs")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
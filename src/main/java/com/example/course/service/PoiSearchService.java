@@ -0,0 +1,82 @@
+package com.example.course.service;
+
+import com.example.course.api.dto.Response.NearbyPoiResponse;
+import com.example.course.domain.Category;
+import com.example.course.domain.OpenHoursSchedule;
+import com.example.course.domain.Poi;
+import com.example.course.repository.PoiRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class PoiSearchService {
+
+    private static final String LOG_PREFIX = "[PoiSearchService]";
+
+    public static final int DEFAULT_RADIUS_METERS = 1000;
+    public static final int MAX_RADIUS_METERS = 20_000;
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final PoiSpatialIndex poiSpatialIndex;
+    private final PoiRepository poiRepository;
+
+    public PoiSearchService(PoiSpatialIndex poiSpatialIndex, PoiRepository poiRepository) {
+        this.poiSpatialIndex = poiSpatialIndex;
+        this.poiRepository = poiRepository;
+    }
+
+    /**
+     * 반경 내 POI를 가까운 순으로 조회 - 후보 선정은 공간 인덱스, 상세 정보는 2차 캐시/DB에서 일괄 조회.
+     * openDay/openTime이 주어지면 해당 시각에 영업 중인 POI만 반환한다. (영업시간 정보가 없는 POI 제외)
+     */
+    public List<NearbyPoiResponse> findNearby(double lat, double lng, int radiusMeters,
+                                              Category category, Boolean indoor,
+                                              String openDay, String openTime, int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("lat must be within [-90, 90] and lng within [-180, 180]");
+        }
+        if (radiusMeters < 1 || radiusMeters > MAX_RADIUS_METERS) {
+            throw new IllegalArgumentException("radius must be between 1 and " + MAX_RADIUS_METERS + ": " + radiusMeters);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        if ((openDay == null) != (openTime == null)) {
+            throw new IllegalArgumentException("openDay and openTime must be given together");
+        }
+        int openAtMinute = openDay != null ? OpenHoursSchedule.minuteOfWeek(openDay, openTime) : -1;
+        if (!poiSpatialIndex.isReady()) {
+            log.warn("{} 공간 인덱스 구성 전 요청 → 503", LOG_PREFIX);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "POI 검색을 준비 중입니다.");
+        }
+
+        List<PoiSpatialIndex.Match> matches = poiSpatialIndex.findNearby(lat, lng, radiusMeters, category, indoor, openAtMinute, limit);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> distanceById = new HashMap<>();
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (PoiSpatialIndex.Match match : matches) {
+            distanceById.put(match.poiId(), match.distanceMeters());
+            ids.add(match.poiId());
+        }
+
+        List<NearbyPoiResponse> result = new ArrayList<>(matches.size());
+        for (Poi poi : poiRepository.findAllByIdsCached(ids)) {
+            result.add(NearbyPoiResponse.of(poi, distanceById.get(poi.getId())));
+        }
+        log.debug("{} 주변 POI 조회 lat={} lng={} radius={} 결과={}", LOG_PREFIX, lat, lng, radiusMeters, result.size());
+        return result;
+    }
+}
@@ -0,0 +1,454 @@
+package com.example.course.service;
+
+import com.example.course.domain.Category;
+import com.example.course.domain.OpenHoursSchedule;
+import com.example.course.domain.Poi;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * POI 위치 기반 검색용 인메모리 격자 인덱스 (0.01° 셀).
+ * 기동 시 poi 테이블에서 재구성하고, 이 인스턴스의 POI upsert는 커밋 이후 바로 반영한다.
+ * 다른 인스턴스가 기록한 POI는 updated_at 기준 주기적 증분 조회로, 다른 인스턴스가 삭제한 POI는 주기적 전체 재구성으로 반영한다.
+ * 증분 조회에서 읽은 POI는 이 인스턴스의 2차 캐시(poi 리전)에서도 제거해, 다른 인스턴스가 고친 상세 정보가
+ * refresh-interval 안에 /api/pois/nearby 응답에 반영되도록 한다.
+ */
+@Component
+@Slf4j
+public class PoiSpatialIndex {
+
+    private static final String LOG_PREFIX = "[PoiSpatialIndex]";
+    private static final double CELL_DEGREES = 0.01;
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final int LOAD_FETCH_SIZE = 10_000;
+    private static final String SELECT_POIS =
+            "select id, lat, lng, category, indoor, open_minutes, open_hours::text as open_hours, updated_at from poi";
+    /** 증분 조회 구간을 마지막으로 본 updated_at보다 앞당겨, 늦게 커밋된 트랜잭션의 행(더 이른 updated_at)도 읽는다 */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+    private static final TypeReference<Map<String, String>> OPEN_HOURS_TYPE = new TypeReference<>() {
+    };
+
+    private volatile ConcurrentMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate readOnlyTransaction;
+    private volatile boolean ready;
+    /** 인덱스에 반영한 가장 최근 updated_at - 증분 조회 기준 */
+    private volatile Instant watermark;
+
+    public PoiSpatialIndex(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                           EntityManagerFactory entityManagerFactory,
+                           PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * poi 테이블 전체를 스트리밍으로 읽어 새 인덱스를 만든 뒤 교체 (PostgreSQL은 트랜잭션 안에서만 fetchSize 스트리밍).
+     * 구성 중에는 기존 인덱스로 검색하며, 그동안 반영된 upsert는 다음 증분 조회에서 다시 읽힌다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startTime = System.nanoTime();
+        ConcurrentMap<Long, Cell> loaded = new ConcurrentHashMap<>();
+        Load load = load(loaded, null, null);
+        cells = loaded;
+        watermark = load.lastUpdatedAt();
+        ready = true;
+        log.info("{} 공간 인덱스 구성 완료 poiCount={} cellCount={} 처리시간={}ms",
+                LOG_PREFIX, load.count(), loaded.size(), (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * 다른 인스턴스가 삭제한 POI를 걷어내기 위한 주기적 전체 재구성
+     */
+    @Scheduled(fixedDelayString = "${course.poi-index.rebuild-interval:PT1H}",
+            initialDelayString = "${course.poi-index.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 마지막으로 본 updated_at 이후 기록된 POI만 읽어 반영 (다른 인스턴스의 신규/변경 POI).
+     * 변경된 POI는 이 인스턴스의 2차 캐시에서 제거 - 캐시된 이전 상세 정보는 최대 refresh-interval(+커밋 지연)까지만 남는다.
+     */
+    @Scheduled(fixedDelayString = "${course.poi-index.refresh-interval:PT1M}",
+            initialDelayString = "${course.poi-index.refresh-interval:PT1M}")
+    public void refresh() {
+        Instant since = watermark;
+        if (!ready) {
+            return;
+        }
+        List<Long> changedIds = new ArrayList<>();
+        Load load = load(cells, since != null ? since.minus(REFRESH_OVERLAP) : null, changedIds);
+        evictFromCache(changedIds);
+        if (load.lastUpdatedAt() != null && (since == null || load.lastUpdatedAt().isAfter(since))) {
+            watermark = load.lastUpdatedAt();
+        }
+        log.debug("{} 공간 인덱스 증분 반영 poiCount={} since={}", LOG_PREFIX, load.count(), since);
+    }
+
+    private Load load(ConcurrentMap<Long, Cell> target, Instant updatedAfter, List<Long> loadedIds) {
+        Load load = readOnlyTransaction.execute(status -> {
+            int[] count = {0};
+            Instant[] lastUpdatedAt = {null};
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(
+                        updatedAfter != null ? SELECT_POIS + " where updated_at > ?" : SELECT_POIS);
+                if (updatedAfter != null) {
+                    statement.setTimestamp(1, Timestamp.from(updatedAfter));
+                }
+                statement.setFetchSize(LOAD_FETCH_SIZE);
+                return statement;
+            }, rs -> {
+                long poiId = rs.getLong("id");
+                put(target, poiId, rs.getDouble("lat"), rs.getDouble("lng"),
+                        Category.from(rs.getString("category")), rs.getBoolean("indoor"), readOpenMinutes(rs));
+                if (loadedIds != null) {
+                    loadedIds.add(poiId);
+                }
+                Timestamp updatedAt = rs.getTimestamp("updated_at");
+                if (updatedAt != null && (lastUpdatedAt[0] == null || updatedAt.toInstant().isAfter(lastUpdatedAt[0]))) {
+                    lastUpdatedAt[0] = updatedAt.toInstant();
+                }
+                count[0]++;
+            });
+            return new Load(count[0], lastUpdatedAt[0]);
+        });
+        return load != null ? load : new Load(0, null);
+    }
+
+    private void evictFromCache(List<Long> poiIds) {
+        if (poiIds.isEmpty() || entityManagerFactory == null) {
+            return;
+        }
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (Long poiId : poiIds) {
+            cache.evictEntityData(Poi.class, poiId);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * POI 추가 또는 갱신 (id 기준, 위치는 자연 키이므로 변하지 않음). openMinutes가 null이면 영업시간 정보 없음
+     */
+    public void put(long poiId, double lat, double lng, Category category, boolean indoor, int[] openMinutes) {
+        put(cells, poiId, lat, lng, category, indoor, openMinutes);
+    }
+
+    private static void put(ConcurrentMap<Long, Cell> target, long poiId, double lat, double lng,
+                            Category category, boolean indoor, int[] openMinutes) {
+        target.computeIfAbsent(cellKey(lat, lng), key -> new Cell())
+                .put(poiId, lat, lng, (byte) category.ordinal(), indoor, OpenHoursSchedule.ofRanges(openMinutes));
+    }
+
+    public void remove(long poiId, double lat, double lng) {
+        Cell cell = cells.get(cellKey(lat, lng));
+        if (cell != null) {
+            cell.remove(poiId);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 반영 (롤백된 POI가 인덱스에 남지 않도록)
+     */
+    public void putAfterCommit(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.forEach(this::put);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.forEach(PoiSpatialIndex.this::put);
+            }
+        });
+    }
+
+    private void put(Entry entry) {
+        put(entry.poiId(), entry.lat(), entry.lng(), entry.category(), entry.indoor(), entry.openMinutes());
+    }
+
+    /**
+     * 반경 내 POI를 거리순으로 최대 limit개 반환 (category/indoor가 null, openAtMinute가 음수이면 해당 필터 미적용)
+     */
+    public List<Match> findNearby(double lat, double lng, double radiusMeters,
+                                  Category category, Boolean indoor, int openAtMinute, int limit) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        int minLatCell = latCell(Math.max(lat - latDelta, -90.0));
+        int maxLatCell = latCell(Math.min(lat + latDelta, 90.0));
+        int minLngCell = (int) Math.floor((lng - lngDelta) / CELL_DEGREES);
+        int maxLngCell = (int) Math.floor((lng + lngDelta) / CELL_DEGREES);
+        if (maxLngCell - minLngCell >= LNG_CELLS) {
+            minLngCell = -LNG_CELLS / 2;
+            maxLngCell = LNG_CELLS / 2 - 1;
+        }
+
+        byte categoryFilter = category != null ? (byte) category.ordinal() : -1;
+        PriorityQueue<Match> nearest = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(Match::distanceMeters).reversed());
+        for (int latIndex = minLatCell; latIndex <= maxLatCell; latIndex++) {
+            for (int lngIndex = minLngCell; lngIndex <= maxLngCell; lngIndex++) {
+                Cell cell = cells.get(cellKey(latIndex, normalizeLngCell(lngIndex)));
+                if (cell != null) {
+                    cell.collect(lat, lng, radiusMeters, categoryFilter, indoor, openAtMinute, limit, nearest);
+                }
+            }
+        }
+
+        List<Match> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(Match::distanceMeters));
+        return result;
+    }
+
+    public int size() {
+        return cells.values().stream().mapToInt(Cell::size).sum();
+    }
+
+    private static int latCell(double lat) {
+        return (int) Math.floor(lat / CELL_DEGREES);
+    }
+
+    private static int normalizeLngCell(int lngIndex) {
+        int half = LNG_CELLS / 2;
+        return Math.floorMod(lngIndex + half, LNG_CELLS) - half;
+    }
+
+    private static long cellKey(double lat, double lng) {
+        return cellKey(latCell(lat), normalizeLngCell((int) Math.floor(lng / CELL_DEGREES)));
+    }
+
+    private static long cellKey(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+    }
+
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private int[] readOpenMinutes(ResultSet rs) throws SQLException {
+        Array openMinutes = rs.getArray("open_minutes");
+        if (openMinutes != null) {
+            Integer[] values = (Integer[]) openMinutes.getArray();
+            int[] ranges = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                ranges[i] = values[i];
+            }
+            return ranges;
+        }
+        String openHours = rs.getString("open_hours");
+        if (openHours == null) {
+            return null;
+        }
+        try {
+            OpenHoursSchedule schedule = OpenHoursSchedule.fromOpenHours(objectMapper.readValue(openHours, OPEN_HOURS_TYPE));
+            return schedule != null ? schedule.toArray() : null;
+        } catch (JsonProcessingException ex) {
+            log.warn("{} open_hours 파싱 실패 poiId={}", LOG_PREFIX, rs.getLong("id"));
+            return null;
+        }
+    }
+
+    public record Entry(long poiId, double lat, double lng, Category category, boolean indoor, int[] openMinutes) {
+    }
+
+    public record Match(long poiId, double distanceMeters) {
+    }
+
+    private record Load(int count, Instant lastUpdatedAt) {
+    }
+
+    /**
+     * 셀 단위 POI 목록 - 원시 타입 병렬 배열로 보관해 POI당 메모리를 최소화.
+     * poiId → 배열 위치는 개방 주소법 해시 테이블(slots, 선형 탐사)로 찾아 put/remove가 셀 크기와 무관하다.
+     */
+    private static final class Cell {
+        /** 배열 위치 + 1 (0은 빈 칸), 적재율 1/2 이하 유지 */
+        private int[] slots = new int[8];
+        private long[] ids = new long[4];
+        private double[] lats = new double[4];
+        private double[] lngs = new double[4];
+        private byte[] categories = new byte[4];
+        private boolean[] indoors = new boolean[4];
+        private OpenHoursSchedule[] schedules = new OpenHoursSchedule[4];
+        private int size;
+
+        synchronized void put(long poiId, double lat, double lng, byte category, boolean indoor,
+                              OpenHoursSchedule schedule) {
+            int index = indexOf(poiId);
+            if (index < 0) {
+                if ((size + 1) * 2 > slots.length) {
+                    resizeSlots(slots.length * 2);
+                }
+                if (size == ids.length) {
+                    int capacity = size * 2;
+                    ids = Arrays.copyOf(ids, capacity);
+                    lats = Arrays.copyOf(lats, capacity);
+                    lngs = Arrays.copyOf(lngs, capacity);
+                    categories = Arrays.copyOf(categories, capacity);
+                    indoors = Arrays.copyOf(indoors, capacity);
+                    schedules = Arrays.copyOf(schedules, capacity);
+                }
+                index = size++;
+                ids[index] = poiId;
+                lats[index] = lat;
+                lngs[index] = lng;
+                slots[freeSlot(poiId)] = index + 1;
+            }
+            categories[index] = category;
+            indoors[index] = indoor;
+            schedules[index] = schedule;
+        }
+
+        synchronized void remove(long poiId) {
+            int slot = slotOf(poiId);
+            if (slot < 0) {
+                return;
+            }
+            int index = slots[slot] - 1;
+            clearSlot(slot);
+            int last = --size;
+            if (index != last) {
+                // 마지막 항목을 빈 위치로 옮기고 그 항목의 슬롯도 갱신
+                slots[slotOf(ids[last])] = index + 1;
+            }
+            ids[index] = ids[last];
+            lats[index] = lats[last];
+            lngs[index] = lngs[last];
+            categories[index] = categories[last];
+            indoors[index] = indoors[last];
+            schedules[index] = schedules[last];
+            schedules[last] = null;
+        }
+
+        synchronized void collect(double lat, double lng, double radiusMeters, byte category, Boolean indoor,
+                                  int openAtMinute, int limit, PriorityQueue<Match> nearest) {
+            for (int i = 0; i < size; i++) {
+                if (category >= 0 && categories[i] != category) {
+                    continue;
+                }
+                if (indoor != null && indoors[i] != indoor) {
+                    continue;
+                }
+                if (openAtMinute >= 0 && (schedules[i] == null || !schedules[i].isOpenAt(openAtMinute))) {
+                    continue;
+                }
+                double distance = distanceMeters(lat, lng, lats[i], lngs[i]);
+                if (distance > radiusMeters) {
+                    continue;
+                }
+                if (nearest.size() < limit) {
+                    nearest.add(new Match(ids[i], distance));
+                } else if (distance < nearest.peek().distanceMeters()) {
+                    nearest.poll();
+                    nearest.add(new Match(ids[i], distance));
+                }
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private int indexOf(long poiId) {
+            int slot = slotOf(poiId);
+            return slot < 0 ? -1 : slots[slot] - 1;
+        }
+
+        private int slotOf(long poiId) {
+            int mask = slots.length - 1;
+            for (int slot = hash(poiId) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+                if (ids[slots[slot] - 1] == poiId) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private int freeSlot(long poiId) {
+            int mask = slots.length - 1;
+            int slot = hash(poiId) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * 빈 칸을 만든 뒤 뒤따르는 탐사 구간의 항목을 당겨 와 탐사가 끊기지 않게 한다 (tombstone 없이 삭제)
+         */
+        private void clearSlot(int slot) {
+            int mask = slots.length - 1;
+            int empty = slot;
+            slots[empty] = 0;
+            for (int next = (empty + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+                int home = hash(ids[slots[next] - 1]) & mask;
+                // home이 (empty, next] 구간 밖이면 next 항목은 empty 위치로 옮겨도 탐사로 찾을 수 있음
+                boolean between = empty <= next ? empty < home && home <= next : empty < home || home <= next;
+                if (!between) {
+                    slots[empty] = slots[next];
+                    slots[next] = 0;
+                    empty = next;
+                }
+            }
+        }
+
+        private void resizeSlots(int capacity) {
+            slots = new int[capacity];
+            for (int i = 0; i < size; i++) {
+                slots[freeSlot(ids[i])] = i + 1;
+            }
+        }
+
+        private static int hash(long poiId) {
+            long h = poiId * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
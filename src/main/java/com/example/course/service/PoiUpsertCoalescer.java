@@ -0,0 +1,140 @@
+package com.example.course.service;
+
+import com.example.course.domain.Poi;
+import com.example.course.domain.PoiKey;
+import com.example.course.repository.PoiUpsertRepository.UpsertedPoi;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 같은 POI 키에 대한 동시 upsert를 JVM 안에서 하나의 DB 기록으로 합친다 (single-flight).
+ * 먼저 키를 점유한 요청이 기록하고, 같은 내용으로 동시에 들어온 요청은 그 결과 id를 재사용한다.
+ * 기록은 호출자 트랜잭션과 분리된 짧은 트랜잭션(Writer)에서 커밋되므로, 대기하는 쪽이 다른 요청의 커밋을 기다리며 서로 막히지 않는다.
+ */
+@Component
+@Slf4j
+public class PoiUpsertCoalescer {
+
+    private static final String LOG_PREFIX = "[PoiUpsertCoalescer]";
+    private static final Comparator<Poi> LOCK_ORDER = Comparator.comparing(PoiKey::of, PoiKey.LOCK_ORDER);
+
+    /**
+     * 키 순서(PoiKey.LOCK_ORDER)로 정렬된 POI를 기록하고 커밋한 뒤 결과를 반환
+     */
+    @FunctionalInterface
+    public interface Writer {
+        List<UpsertedPoi> write(List<Poi> sortedPois);
+    }
+
+    // ConcurrentHashMap은 내부적으로 버킷 단위 잠금이므로 키가 다르면 서로 경합하지 않음
+    private final ConcurrentMap<PoiKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final long followerTimeoutNanos;
+
+    public PoiUpsertCoalescer(@Value("${course.poi-upsert.follower-timeout:PT2S}") Duration followerTimeout) {
+        this.followerTimeoutNanos = followerTimeout.toNanos();
+    }
+
+    /**
+     * 키가 서로 다른 POI 목록을 기록 - 진행 중인 동일 내용의 기록이 있으면 기다렸다가 그 id를 사용하고,
+     * 그 기록이 실패하거나 시간 안에 끝나지 않으면 직접 기록한다.
+     */
+    public Result upsert(List<Poi> pois, Writer writer) {
+        List<Poi> sorted = new ArrayList<>(pois);
+        sorted.sort(LOCK_ORDER);
+
+        List<Flight> led = new ArrayList<>();
+        List<Poi> toWrite = new ArrayList<>(sorted.size());
+        List<Follower> followers = new ArrayList<>();
+        for (Poi poi : sorted) {
+            PoiKey key = PoiKey.of(poi);
+            Flight flight = new Flight(key, poi);
+            Flight current = inFlight.putIfAbsent(key, flight);
+            if (current == null) {
+                led.add(flight);
+                toWrite.add(poi);
+            } else if (current.poi.hasSameContent(poi)) {
+                followers.add(new Follower(poi, current));
+            } else {
+                // 내용이 다르면 합치지 않고 직접 기록 (마지막 기록이 반영됨)
+                toWrite.add(poi);
+            }
+        }
+
+        List<UpsertedPoi> upserted = new ArrayList<>(pois.size());
+        try {
+            if (!toWrite.isEmpty()) {
+                upserted.addAll(writer.write(toWrite));
+            }
+            Map<PoiKey, Long> ids = new HashMap<>();
+            upserted.forEach(row -> ids.put(row.key(), row.id()));
+            led.forEach(flight -> flight.result.complete(ids.get(flight.key)));
+        } catch (RuntimeException ex) {
+            led.forEach(flight -> flight.result.completeExceptionally(ex));
+            throw ex;
+        } finally {
+            led.forEach(flight -> inFlight.remove(flight.key, flight));
+        }
+
+        int coalesced = 0;
+        List<Poi> fallback = new ArrayList<>();
+        for (Follower follower : followers) {
+            Long id = await(follower.flight);
+            if (id != null) {
+                upserted.add(new UpsertedPoi(follower.flight.key, id, false, false));
+                coalesced++;
+            } else {
+                fallback.add(follower.poi);
+            }
+        }
+        if (!fallback.isEmpty()) {
+            log.debug("{} 선행 기록 실패/지연으로 직접 기록 count={}", LOG_PREFIX, fallback.size());
+            upserted.addAll(writer.write(fallback));
+        }
+        return new Result(upserted, coalesced);
+    }
+
+    private Long await(Flight flight) {
+        try {
+            return flight.result.get(followerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | TimeoutException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a concurrent POI upsert", ex);
+        }
+    }
+
+    /**
+     * upserted: 요청한 모든 키의 결과, coalesced: 다른 요청의 기록을 재사용한 키 수 (upserted에 created=false로 포함)
+     */
+    public record Result(List<UpsertedPoi> upserted, int coalesced) {
+    }
+
+    private static final class Flight {
+        private final PoiKey key;
+        private final Poi poi;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        private Flight(PoiKey key, Poi poi) {
+            this.key = key;
+            this.poi = poi;
+        }
+    }
+
+    private record Follower(Poi poi, Flight flight) {
+    }
+}
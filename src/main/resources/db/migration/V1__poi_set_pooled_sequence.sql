@@ -0,0 +1,11 @@
+-- poi_set.id: IDENTITY -> pooled sequence (allocationSize = 50)
+-- IDENTITY 전략은 Hibernate INSERT 배치를 비활성화하므로 시퀀스로 전환한다.
+
+create sequence if not exists poi_set_seq increment by 50;
+
+-- pooled 옵티마이저는 nextval 값을 블록의 상한으로 사용하므로 (값 - 49 ~ 값)
+-- 첫 블록이 기존 id와 겹치지 않도록 max(id) + 50 부터 시작한다.
+select setval('poi_set_seq', coalesce((select max(id) from poi_set), 0) + 50, false);
+
+alter table poi_set alter column id drop identity if exists;
+alter table poi_set alter column id drop default;
@@ -0,0 +1,4 @@
+-- poi.open_minutes: open_hours를 월요일 00:00 기준 분 단위 [시작, 종료) 구간으로 컴파일한 값
+-- 기존 행은 NULL로 두고, 읽을 때 open_hours에서 계산하며 다음 upsert 시 채워진다.
+
+alter table poi add column if not exists open_minutes integer[];
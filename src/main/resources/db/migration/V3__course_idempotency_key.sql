@@ -0,0 +1,14 @@
+-- course_idempotency_key: POST /api/courses의 Idempotency-Key 기록 (커플 단위)
+-- 코스 저장과 같은 트랜잭션에서 INSERT되며, 기본 키 충돌로 인스턴스 간 중복 생성을 막는다.
+-- course 삭제와 무관하게 보관 기간(course.idempotency.ttl)이 지나면 정리된다.
+
+create table if not exists course_idempotency_key (
+    couple_id       varchar(100) not null,
+    idempotency_key varchar(255) not null,
+    request_hash    varchar(64)  not null,
+    course_id       varchar(100) not null,
+    created_at      timestamp(6) with time zone not null,
+    primary key (couple_id, idempotency_key)
+);
+
+create index if not exists idx_course_idempotency_key_created on course_idempotency_key (created_at);
@@ -0,0 +1,5 @@
+-- poi.content_hash: 변경 가능한 필드의 MD5 hex (CourseDomainService.normalizePoiData에서 계산)
+-- 저장된 해시와 요청 POI의 해시가 같으면 upsert와 poi_food_tags 교체를 건너뛴다.
+-- 기존 행은 NULL로 두며, 그동안은 필드 단위로 비교하고 다음 기록 시 채워진다.
+
+alter table poi add column if not exists content_hash varchar(32);
@@ -0,0 +1,56 @@
+-- poi.food_tag: poi_food_tags(ElementCollection) 행을 poi의 jsonb 배열(표시 순서)로 옮긴다. (1/2, 트랜잭션 안에서 실행)
+--   1) 컬럼 추가는 메타데이터만 변경 (PostgreSQL 11 이상)
+--   2) 배포가 끝날 때까지 이전 버전 인스턴스가 poi_food_tags에 쓰는 태그를 트리거로 poi.food_tag에 반영
+--   3) poi_food_tags FK를 ON DELETE CASCADE로 교체
+-- 기존 행 채우기, 역방향 동기화, GIN 인덱스는 트랜잭션 밖에서 실행되는 V6에서 처리한다.
+
+alter table poi add column if not exists food_tag jsonb;
+alter table poi alter column food_tag set default '[]'::jsonb;
+
+create or replace function poi_food_tags_sync() returns trigger
+language plpgsql as $$
+declare
+    target_id bigint;
+begin
+    -- poi.food_tag 변경을 poi_food_tags에 옮겨 쓰는 역방향 트리거(V6)에서 호출된 경우는 무시
+    if pg_trigger_depth() > 1 then
+        return null;
+    end if;
+    if tg_op = 'DELETE' then
+        target_id := old.poi_id;
+    else
+        target_id := new.poi_id;
+    end if;
+    update poi
+    set food_tag = coalesce((select jsonb_agg(t.food_tag order by t.display_order)
+                             from poi_food_tags t
+                             where t.poi_id = target_id), '[]'::jsonb)
+    where id = target_id;
+    return null;
+end
+$$;
+
+drop trigger if exists poi_food_tags_sync on poi_food_tags;
+create trigger poi_food_tags_sync
+    after insert or update or delete on poi_food_tags
+    for each row execute function poi_food_tags_sync();
+
+-- 새 버전은 poi_food_tags를 쓰지 않고 POI를 바로 삭제하므로, 남은 태그 행은 POI와 함께 삭제되도록 FK를 교체
+do $$
+declare
+    fk record;
+begin
+    for fk in
+        select conname
+        from pg_constraint
+        where conrelid = 'poi_food_tags'::regclass
+          and confrelid = 'poi'::regclass
+          and contype = 'f'
+    loop
+        execute format('alter table poi_food_tags drop constraint %I', fk.conname);
+    end loop;
+end
+$$;
+alter table poi_food_tags
+    add constraint fk_poi_food_tags_poi foreign key (poi_id) references poi (id) on delete cascade not valid;
+alter table poi_food_tags validate constraint fk_poi_food_tags_poi;
@@ -0,0 +1,57 @@
+-- poi.food_tag 전환 (2/2) - 트랜잭션 밖에서 실행 (V6__poi_food_tag_backfill.sql.conf: executeInTransaction=false)
+--   1) 기존 행은 id 구간별로 나눠 커밋하며 채움
+--   2) 새 버전이 기록한 poi.food_tag를 poi_food_tags에도 옮겨 써서, 전환 확인 전까지 이전 버전으로 되돌릴 수 있게 유지
+--   3) GIN 인덱스는 CONCURRENTLY로 생성
+-- 모든 인스턴스가 새 버전으로 교체되고 되돌릴 필요가 없어지면 poi_food_tags 테이블과 두 트리거를 후속 마이그레이션에서 삭제한다.
+
+-- 기존 행 채우기 (5000개 id 구간마다 커밋)
+do $$
+declare
+    last_id bigint := 0;
+    max_id  bigint;
+begin
+    select coalesce(max(id), 0) into max_id from poi;
+    while last_id < max_id loop
+        update poi p
+        set food_tag = coalesce((select jsonb_agg(t.food_tag order by t.display_order)
+                                 from poi_food_tags t
+                                 where t.poi_id = p.id), '[]'::jsonb)
+        where p.id > last_id
+          and p.id <= last_id + 5000
+          and p.food_tag is null;
+        last_id := last_id + 5000;
+        commit;
+    end loop;
+end
+$$;
+
+-- 역방향 동기화: poi.food_tag → poi_food_tags (display_order는 0부터)
+create or replace function poi_food_tag_mirror() returns trigger
+language plpgsql as $$
+begin
+    -- poi_food_tags_sync(정방향)가 갱신한 경우는 이미 같은 내용이므로 무시
+    if pg_trigger_depth() > 1 then
+        return null;
+    end if;
+    delete from poi_food_tags where poi_id = new.id;
+    insert into poi_food_tags (poi_id, food_tag, display_order)
+    select new.id, tag.value, tag.ordinality - 1
+    from jsonb_array_elements_text(coalesce(new.food_tag, '[]'::jsonb)) with ordinality as tag(value, ordinality);
+    return null;
+end
+$$;
+
+drop trigger if exists poi_food_tag_mirror_insert on poi;
+create trigger poi_food_tag_mirror_insert
+    after insert on poi
+    for each row execute function poi_food_tag_mirror();
+
+drop trigger if exists poi_food_tag_mirror_update on poi;
+create trigger poi_food_tag_mirror_update
+    after update of food_tag on poi
+    for each row
+    when (old.food_tag is distinct from new.food_tag)
+    execute function poi_food_tag_mirror();
+
+-- 태그 포함 조회: where food_tag @> '["coffee"]'::jsonb
+create index concurrently if not exists idx_poi_food_tag on poi using gin (food_tag jsonb_path_ops);
@@ -0,0 +1,19 @@
+-- course_ingest_job: POST /api/courses?async=true 작업 기록
+-- 접수 시 요청 본문(payload)과 함께 QUEUED로 저장되어 어느 인스턴스에서든 상태를 조회할 수 있고,
+-- 처리 중인 인스턴스가 종료/장애로 사라지면 임대(lease_until)가 끝난 작업을 다른 인스턴스가 다시 처리한다.
+
+create table if not exists course_ingest_job (
+    job_id       varchar(36)  not null primary key,
+    couple_id    varchar(100) not null,
+    status       varchar(20)  not null,
+    payload      jsonb        not null,
+    course_id    varchar(100),
+    error        varchar(500),
+    attempts     integer      not null,
+    lease_until  timestamp(6) with time zone not null,
+    submitted_at timestamp(6) with time zone not null,
+    completed_at timestamp(6) with time zone
+);
+
+create index if not exists idx_course_ingest_job_lease on course_ingest_job (status, lease_until);
+create index if not exists idx_course_ingest_job_completed on course_ingest_job (completed_at);
@@ -0,0 +1,78 @@
+package com.example.course;
+
+import com.example.course.api.dto.Requset.CreateCourseRequest;
+import com.example.course.service.CourseService;
+import com.example.course.service.CourseService.CourseCreationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이전 스키마에 V1 이후 마이그레이션을 적용한 결과가 엔티티와 일치하는지 확인 (ddl-auto: validate - 불일치면 컨텍스트 기동 실패)
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "migration"})
+class FlywayMigrationTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        // 엔티티 기준으로 생성된 공유 스키마와 섞이지 않도록 별도 데이터베이스 사용
+        TestDatabase.register(registry, "migration");
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void appliesEveryMigrationAndMatchesEntities() {
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .filter(info -> info.getState().isApplied() && !info.getState().isFailed())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        assertThat(applied).containsExactly("0.1", "1", "2", "3", "4", "5", "6", "7");
+    }
+
+    @Test
+    void storesCourseOnMigratedSchema() throws Exception {
+        String coupleId = "couple-" + UUID.randomUUID();
+        CreateCourseRequest request = objectMapper.readValue("""
+                {"title": "migrated course", "explain": "마이그레이션 스키마", "data": [
+                  {"seq": 1, "name": "Migrated Cafe %s", "category": "CAFE", "lat": 37.55, "lng": 126.98, "indoor": true,
+                   "openHours": {"mon": "09:00-18:00"}, "foodTag": ["coffee", "dessert"], "moodTag": "lovely"}
+                ]}
+                """.formatted(UUID.randomUUID()), CreateCourseRequest.class);
+
+        CourseCreationResult created = courseService.createCourse(coupleId, request);
+
+        // poi_set.id는 V1의 pooled 시퀀스, food_tag는 V5/V6 트리거로 이전 poi_food_tags에도 기록
+        Long poiId = created.poiSets().get(0).getPoi().getId();
+        assertThat(created.poiSets().get(0).getId()).isNotNull();
+        assertThat(jdbcTemplate.queryForList(
+                "select food_tag from poi_food_tags where poi_id = ? order by display_order", String.class, poiId))
+                .containsExactly("coffee", "dessert");
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.course.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 캐시된 토큰도 exp가 지나면 다시 검증되어 거부되고, 클레임이 같아도 서명이 다른 토큰은 캐시를 타지 않는지 확인
+ */
+class CachingJwtDecoderTest {
+
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(
+            "test-only-jwt-secret-for-caching-decoder!".getBytes(StandardCharsets.UTF_8));
+    private static final SecretKey OTHER_KEY = Keys.hmacShaKeyFor(
+            "another-jwt-secret-that-must-be-rejected!".getBytes(StandardCharsets.UTF_8));
+
+    private final Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final MutableClock clock = new MutableClock(start);
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(countingDelegate(), 100, Duration.ofMinutes(10), clock);
+
+    @Test
+    void servesRepeatedTokenFromCache() {
+        String token = token(KEY, start.plus(Duration.ofMinutes(5)));
+
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    void rejectsCachedTokenOnceExpired() {
+        String token = token(KEY, start.plus(Duration.ofMinutes(1)));
+        decoder.decode(token);
+        assertThat(decoder.cache().estimatedSize()).isEqualTo(1);
+
+        // 캐시 항목은 아직 남아 있지만 exp(+ 위임 디코더의 허용 오차 60초)가 지남
+        clock.set(start.plus(Duration.ofMinutes(5)));
+
+        assertThatThrownBy(() -> decoder.decode(token)).isInstanceOf(JwtValidationException.class);
+        assertThat(verifications).hasValue(2);
+        assertThat(decoder.cache().asMap()).isEmpty();
+    }
+
+    @Test
+    void verifiesTamperedTokenWithSameClaims() {
+        Instant expiresAt = start.plus(Duration.ofMinutes(5));
+        String token = token(KEY, expiresAt);
+        decoder.decode(token);
+
+        // 헤더/클레임은 그대로 두고 서명만 다른 키로 교체
+        String forged = token(OTHER_KEY, expiresAt);
+        String tampered = token.substring(0, token.lastIndexOf('.')) + forged.substring(forged.lastIndexOf('.'));
+        assertThat(tampered).isNotEqualTo(token);
+
+        assertThatThrownBy(() -> decoder.decode(tampered)).isInstanceOf(BadJwtException.class);
+        assertThat(verifications).hasValue(2);
+        assertThat(decoder.cache().estimatedSize()).isEqualTo(1);
+    }
+
+    private JwtDecoder countingDelegate() {
+        NimbusJwtDecoder verifying = NimbusJwtDecoder.withSecretKey(KEY)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        JwtTimestampValidator timestampValidator = new JwtTimestampValidator();
+        timestampValidator.setClock(clock);
+        verifying.setJwtValidator(timestampValidator);
+        return token -> {
+            verifications.incrementAndGet();
+            return verifying.decode(token);
+        };
+    }
+
+    private String token(SecretKey key, Instant expiresAt) {
+        return Jwts.builder()
+                .setSubject("user-1")
+                .claim(CouplePrincipal.COUPLE_ID_CLAIM, "couple-1")
+                .setIssuedAt(Date.from(start))
+                .setExpiration(Date.from(expiresAt))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
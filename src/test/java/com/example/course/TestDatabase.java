@@ -0,0 +1,74 @@
+package com.example.course;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 테스트 JVM 전체에서 공유하는 내장 PostgreSQL (jsonb, ON CONFLICT, FOR KEY SHARE 등 운영과 같은 SQL 사용).
+ * 테스트 클래스의 @DynamicPropertySource에서 {@link #register(DynamicPropertyRegistry)}를 호출한다.
+ */
+public final class TestDatabase {
+
+    private static EmbeddedPostgres postgres;
+
+    private TestDatabase() {
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        register(registry, "postgres");
+    }
+
+    /**
+     * 같은 서버의 별도 데이터베이스 사용 (없으면 생성) - 다른 테스트가 만든 스키마와 섞이면 안 되는 경우(마이그레이션 검증)
+     */
+    public static void register(DynamicPropertyRegistry registry, String databaseName) {
+        EmbeddedPostgres started = start();
+        createDatabase(started, databaseName);
+        registry.add("spring.datasource.url", () -> started.getJdbcUrl("postgres", databaseName));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    private static synchronized void createDatabase(EmbeddedPostgres started, String databaseName) {
+        try (Connection connection = started.getPostgresDatabase().getConnection();
+             PreparedStatement exists = connection.prepareStatement("select 1 from pg_database where datname = ?")) {
+            exists.setString(1, databaseName);
+            try (ResultSet rs = exists.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create database \"" + databaseName + "\"");
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Failed to create test database " + databaseName, ex);
+        }
+    }
+
+    private static synchronized EmbeddedPostgres start() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to start embedded PostgreSQL", ex);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // JVM 종료 중
+                }
+            }));
+        }
+        return postgres;
+    }
+}
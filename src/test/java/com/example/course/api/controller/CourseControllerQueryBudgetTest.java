@@ -0,0 +1,250 @@
+package com.example.course.api.controller;
+
+import com.example.course.TestDatabase;
+import com.example.course.config.SqlStatistics;
+import com.example.course.service.CourseService;
+import com.jayway.jsonpath.JsonPath;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 예산 - 코스/POI 수가 늘어도 문장 수가 변하지 않아야 한다 (N+1 회귀 방지)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CourseControllerQueryBudgetTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Test
+    void getCourses() throws Exception {
+        String token = token();
+        for (int i = 0; i < 5; i++) {
+            createCourse(token, "course-" + i, 3);
+        }
+
+        // 목록 버전 + (버전 + 페이지, 같은 스냅샷)
+        Measured cold = perform(get("/api/courses").header(HttpHeaders.AUTHORIZATION, token));
+        assertThat(cold.status()).isEqualTo(200);
+        assertThat(cold.statements()).isEqualTo(3);
+
+        // 캐시 적중 - 목록 버전만 확인
+        Measured cached = perform(get("/api/courses").header(HttpHeaders.AUTHORIZATION, token));
+        assertThat(cached.statements()).isEqualTo(1);
+
+        Measured notModified = perform(get("/api/courses")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, cold.result().getResponse().getHeader(HttpHeaders.ETAG)));
+        assertThat(notModified.status()).isEqualTo(304);
+        assertThat(notModified.statements()).isEqualTo(1);
+
+        Measured summary = perform(get("/api/courses").param("view", "summary").header(HttpHeaders.AUTHORIZATION, token));
+        assertThat(summary.status()).isEqualTo(200);
+        assertThat(summary.statements()).isEqualTo(3);
+
+        // 커서 페이지는 캐시하지 않음
+        Measured firstPage = perform(get("/api/courses").param("size", "2").header(HttpHeaders.AUTHORIZATION, token));
+        String cursor = firstPage.result().getResponse().getHeader(CourseController.NEXT_CURSOR_HEADER);
+        Measured nextPage = perform(get("/api/courses").param("size", "2").param("cursor", cursor)
+                .header(HttpHeaders.AUTHORIZATION, token));
+        assertThat(nextPage.status()).isEqualTo(200);
+        assertThat(nextPage.statements()).isEqualTo(3);
+    }
+
+    @Test
+    void getCoursesWithoutPagingReturnsEveryCourse() throws Exception {
+        String token = token();
+        int courseCount = CourseService.DEFAULT_PAGE_SIZE + 5;
+        for (int i = 0; i < courseCount; i++) {
+            createCourse(token, "course-" + i, 1);
+        }
+
+        // cursor/size 없는 기존 클라이언트 - 코스 수와 무관하게 같은 문장 수로 전체 목록
+        Measured all = perform(get("/api/courses").header(HttpHeaders.AUTHORIZATION, token));
+        assertThat(all.status()).isEqualTo(200);
+        assertThat(all.statements()).isEqualTo(3);
+        assertThat(all.result().getResponse().getHeader(CourseController.NEXT_CURSOR_HEADER)).isNull();
+        List<String> courseIds = JsonPath.read(all.result().getResponse().getContentAsString(), "$[*].courseId");
+        assertThat(courseIds).hasSize(courseCount);
+        assertThat(courseIds(token)).hasSize(courseCount);
+
+        // size를 주면 페이지 단위
+        Measured page = perform(get("/api/courses").param("size", "10").header(HttpHeaders.AUTHORIZATION, token));
+        List<String> pageIds = JsonPath.read(page.result().getResponse().getContentAsString(), "$[*].courseId");
+        assertThat(pageIds).hasSize(10);
+        assertThat(page.result().getResponse().getHeader(CourseController.NEXT_CURSOR_HEADER)).isNotNull();
+    }
+
+    @Test
+    void listETagCoversOnlyRequestedPage() throws Exception {
+        String token = token();
+        // poi_set 시퀀스 할당 단위(50)를 정확히 소진 - 다른 테스트의 측정 구간에서 시퀀스 조회 위치가 바뀌지 않도록
+        for (int i = 0; i < 5; i++) {
+            createCourse(token, "course-" + i, 10);
+        }
+        MvcResult firstPage = mockMvc.perform(get("/api/courses").param("size", "2").header(HttpHeaders.AUTHORIZATION, token)).andReturn();
+        String cursor = firstPage.getResponse().getHeader(CourseController.NEXT_CURSOR_HEADER);
+        String firstETag = firstPage.getResponse().getHeader(HttpHeaders.ETAG);
+        String nextETag = mockMvc.perform(get("/api/courses").param("size", "2").param("cursor", cursor)
+                .header(HttpHeaders.AUTHORIZATION, token)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 첫 페이지의 코스 삭제 - 커서 이후 페이지의 범위/내용은 그대로이므로 검증자도 그대로
+        String newest = JsonPath.read(firstPage.getResponse().getContentAsString(), "$[0].courseId");
+        mockMvc.perform(delete("/api/courses/{courseId}", newest).header(HttpHeaders.AUTHORIZATION, token));
+
+        Measured first = perform(get("/api/courses").param("size", "2")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, firstETag));
+        assertThat(first.status()).isEqualTo(200);
+        Measured next = perform(get("/api/courses").param("size", "2").param("cursor", cursor)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.IF_NONE_MATCH, nextETag));
+        assertThat(next.status()).isEqualTo(304);
+        assertThat(next.statements()).isEqualTo(1);
+    }
+
+    @Test
+    void postCourse() throws Exception {
+        String token = token();
+        String suffix = UUID.randomUUID().toString();
+        // poi_set 시퀀스는 pooled(50개 단위)라 첫 요청에서만 조회됨 - 측정 전에 미리 할당
+        createCourse(token, "warm-up", 1);
+
+        // POI 조회 + upsert + FOR KEY SHARE + course/poi_set INSERT (배치)
+        Measured created = perform(post("/api/courses")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(courseJson("new POIs", suffix, 5)));
+        assertThat(created.status()).isEqualTo(201);
+        assertThat(created.statements()).isEqualTo(5);
+
+        // 같은 POI 재사용 - 내용이 같으므로 upsert 없음
+        Measured reused = perform(post("/api/courses")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(courseJson("same POIs", suffix, 5)));
+        assertThat(reused.status()).isEqualTo(201);
+        assertThat(reused.statements()).isEqualTo(4);
+    }
+
+    @Test
+    void deleteCourses() throws Exception {
+        String token = token();
+        for (int i = 0; i < 3; i++) {
+            createCourse(token, "course-" + i, 3);
+        }
+        List<String> courseIds = courseIds(token);
+
+        // poi_set DELETE + course DELETE
+        Measured single = perform(delete("/api/courses/{courseId}", courseIds.get(0)).header(HttpHeaders.AUTHORIZATION, token));
+        assertThat(single.status()).isEqualTo(200);
+        assertThat(single.statements()).isEqualTo(2);
+
+        Measured bulk = perform(post("/api/courses/bulk-delete")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"courseIds\": [\"" + courseIds.get(1) + "\", \"" + courseIds.get(2) + "\", \""
+                        + courseIds.get(1) + "\"]}"));
+        assertThat(bulk.status()).isEqualTo(200);
+        assertThat(bulk.statements()).isEqualTo(2);
+        // 중복 id는 한 번만 센다
+        String body = bulk.result().getResponse().getContentAsString();
+        assertThat((Integer) JsonPath.read(body, "$.requested")).isEqualTo(2);
+        assertThat((Integer) JsonPath.read(body, "$.deleted")).isEqualTo(2);
+    }
+
+    private Measured perform(RequestBuilder request) throws Exception {
+        AtomicReference<MvcResult> result = new AtomicReference<>();
+        SqlStatistics.Snapshot snapshot = SqlStatistics.measure(() -> result.getAndSet(mockMvc.perform(request).andReturn()));
+        return new Measured(result.get(), snapshot.statements());
+    }
+
+    private void createCourse(String token, String title, int poiCount) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/courses")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(courseJson(title, UUID.randomUUID().toString(), poiCount)))
+                .andReturn();
+        assertThat(result.getResponse().getStatus()).isEqualTo(201);
+    }
+
+    private List<String> courseIds(String token) throws Exception {
+        String body = mockMvc.perform(get("/api/courses").param("view", "summary").header(HttpHeaders.AUTHORIZATION, token))
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$[*].courseId");
+    }
+
+    private static String courseJson(String title, String poiSuffix, int poiCount) {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < poiCount; i++) {
+            if (i > 0) {
+                data.append(',');
+            }
+            data.append("""
+                    {"seq": %d, "name": "POI %d %s", "category": "CAFE", "lat": 37.5%d, "lng": 127.0%d, "indoor": true,
+                     "priceLevel": 2, "openHours": {"mon": "09:00-18:00"}, "alcohol": 0, "moodTag": "lovely",
+                     "foodTag": ["coffee", "dessert"], "link": "https://example.com", "ratingAvg": 4.3}
+                    """.formatted(i + 1, i, poiSuffix, i, i));
+        }
+        return """
+                {"title": "%s", "explain": "테스트 코스", "data": [%s]}
+                """.formatted(title, data);
+    }
+
+    private String token() {
+        String coupleId = "couple-" + UUID.randomUUID();
+        Instant now = Instant.now();
+        return "Bearer " + Jwts.builder()
+                .setSubject("user-1")
+                .claim("coupleId", coupleId)
+                .claim("userId", "user-1")
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtSecret)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private record Measured(MvcResult result, int statements) {
+
+        int status() {
+            return result.getResponse().getStatus();
+        }
+    }
+}
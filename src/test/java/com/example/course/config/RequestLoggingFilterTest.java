@@ -0,0 +1,39 @@
+package com.example.course.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 클라이언트가 보낸 X-Request-Id는 길이/문자 제한을 통과할 때만 그대로 응답/로그에 사용
+ */
+class RequestLoggingFilterTest {
+
+    private final RequestLoggingFilter filter = new RequestLoggingFilter(0);
+
+    @Test
+    void echoesSafeRequestId() throws Exception {
+        assertThat(requestIdFor("order-42_retry.1")).isEqualTo("order-42_retry.1");
+    }
+
+    @Test
+    void replacesUnsafeOrOversizedRequestId() throws Exception {
+        String oversized = "a".repeat(RequestLoggingFilter.MAX_REQUEST_ID_LENGTH + 1);
+        for (String header : new String[]{oversized, "id\r\nforged: 1", "id with spaces", "<script>", ""}) {
+            String requestId = requestIdFor(header);
+            assertThat(requestId).isNotEqualTo(header);
+            assertThat(RequestLoggingFilter.isSafeRequestId(requestId)).isTrue();
+        }
+    }
+
+    private String requestIdFor(String header) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.addHeader("X-Request-Id", header);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getHeader("X-Request-Id");
+    }
+}
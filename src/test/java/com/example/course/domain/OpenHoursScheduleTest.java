@@ -0,0 +1,103 @@
+package com.example.course.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * openHours 문자열에서 만든 주간 구간이 자정/일요일→월요일 경계와 24:00을 올바르게 처리하는지 확인
+ */
+class OpenHoursScheduleTest {
+
+    @Test
+    void continuesPastMidnightIntoNextDay() {
+        OpenHoursSchedule schedule = OpenHoursSchedule.fromOpenHours(Map.of("fri", "22:00-02:00"));
+
+        assertThat(schedule.isOpenAt(at("fri", "21:59"))).isFalse();
+        assertThat(schedule.isOpenAt(at("fri", "22:00"))).isTrue();
+        assertThat(schedule.isOpenAt(at("fri", "23:59"))).isTrue();
+        assertThat(schedule.isOpenAt(at("sat", "00:00"))).isTrue();
+        assertThat(schedule.isOpenAt(at("sat", "01:59"))).isTrue();
+        assertThat(schedule.isOpenAt(at("sat", "02:00"))).isFalse();
+    }
+
+    @Test
+    void wrapsSundayNightIntoMondayMorning() {
+        OpenHoursSchedule schedule = OpenHoursSchedule.fromOpenHours(Map.of("sun", "20:00-03:00"));
+
+        assertThat(schedule.isOpenAt(at("sun", "19:59"))).isFalse();
+        assertThat(schedule.isOpenAt(at("sun", "23:59"))).isTrue();
+        assertThat(schedule.isOpenAt(at("mon", "00:00"))).isTrue();
+        assertThat(schedule.isOpenAt(at("mon", "02:59"))).isTrue();
+        assertThat(schedule.isOpenAt(at("mon", "03:00"))).isFalse();
+        // 주 끝 구간과 월요일 앞쪽 구간으로 나뉘어 저장됨
+        assertThat(schedule.toArray()).containsExactly(
+                0, 3 * 60,
+                at("sun", "20:00"), OpenHoursSchedule.MINUTES_PER_WEEK);
+    }
+
+    @Test
+    void mergesWrappedSundayWithMondayHours() {
+        Map<String, String> openHours = new LinkedHashMap<>();
+        openHours.put("mon", "00:00-09:00");
+        openHours.put("sun", "18:00-02:00");
+
+        OpenHoursSchedule schedule = OpenHoursSchedule.fromOpenHours(openHours);
+
+        assertThat(schedule.toArray()).containsExactly(
+                0, 9 * 60,
+                at("sun", "18:00"), OpenHoursSchedule.MINUTES_PER_WEEK);
+        assertThat(schedule.isOpenAt(at("mon", "08:59"))).isTrue();
+        assertThat(schedule.isOpenAt(at("mon", "09:00"))).isFalse();
+    }
+
+    @Test
+    void treatsTwentyFourAsEndOfDay() {
+        Map<String, String> openHours = new LinkedHashMap<>();
+        openHours.put("mon", "09:00-24:00");
+        openHours.put("tue", "00:00-24:00");
+        openHours.put("wed", "24:00-01:00");
+
+        OpenHoursSchedule schedule = OpenHoursSchedule.fromOpenHours(openHours);
+
+        assertThat(schedule.isOpenAt(at("mon", "08:59"))).isFalse();
+        assertThat(schedule.isOpenAt(at("mon", "23:59"))).isTrue();
+        // 월요일 24:00까지와 화요일 하루 종일이 맞닿아 하나의 구간
+        assertThat(schedule.isOpenAt(at("tue", "00:00"))).isTrue();
+        assertThat(schedule.isOpenAt(at("tue", "23:59"))).isTrue();
+        // 24:00 시작은 다음 날 00:00 시작과 같음
+        assertThat(schedule.isOpenAt(at("wed", "00:30"))).isFalse();
+        assertThat(schedule.isOpenAt(at("thu", "00:30"))).isTrue();
+        assertThat(schedule.isOpenAt(at("thu", "01:00"))).isFalse();
+    }
+
+    @Test
+    void treatsEqualOpenAndCloseAsAllDay() {
+        OpenHoursSchedule schedule = OpenHoursSchedule.fromOpenHours(Map.of("sat", "10:00-10:00"));
+
+        assertThat(schedule.isOpenAt(at("sat", "09:59"))).isFalse();
+        assertThat(schedule.isOpenAt(at("sat", "10:00"))).isTrue();
+        assertThat(schedule.isOpenAt(at("sun", "09:59"))).isTrue();
+        assertThat(schedule.isOpenAt(at("sun", "10:00"))).isFalse();
+    }
+
+    @Test
+    void ignoresClosedAndMalformedDays() {
+        Map<String, String> openHours = new LinkedHashMap<>();
+        openHours.put("mon", "Closed");
+        openHours.put("tue", "25:00-26:00");
+        openHours.put("holiday", "09:00-18:00");
+
+        OpenHoursSchedule schedule = OpenHoursSchedule.fromOpenHours(openHours);
+
+        assertThat(schedule.isClosedAllWeek()).isTrue();
+        assertThat(OpenHoursSchedule.fromOpenHours(Map.of())).isNull();
+    }
+
+    private static int at(String day, String time) {
+        return OpenHoursSchedule.minuteOfWeek(day, time);
+    }
+}
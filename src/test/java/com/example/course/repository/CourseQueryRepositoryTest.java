@@ -0,0 +1,149 @@
+package com.example.course.repository;
+
+import com.example.course.TestDatabase;
+import com.example.course.api.dto.Response.CourseResponse;
+import com.example.course.config.SqlStatistics;
+import com.example.course.config.SqlStatisticsConfig;
+import com.example.course.domain.Category;
+import com.example.course.domain.Course;
+import com.example.course.domain.Poi;
+import com.example.course.domain.PoiSet;
+import com.example.course.repository.CourseQueryRepository.PagedCourse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 코스 목록 DTO 조회(findCourseResponses)가 한 번의 쿼리로 엔티티 그래프와 같은 결과를 만드는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JacksonAutoConfiguration.class, CourseQueryRepositoryTest.StatisticsConfig.class})
+class CourseQueryRepositoryTest {
+
+    private static final String COUPLE_ID = "couple-query-test";
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @TestConfiguration
+    static class StatisticsConfig {
+
+        @Bean
+        static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+            return SqlStatisticsConfig.sqlStatisticsDataSourcePostProcessor();
+        }
+    }
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Poi shared = persistPoi("Shared Cafe", Category.CAFE, 37.5, 127.0, List.of("coffee", "dessert"));
+        persistCourse("한강 코스", List.of(
+                shared,
+                persistPoi("Han River Park", Category.PARK, 37.52, 126.93, List.of()),
+                persistPoi("Pasta Place", Category.RESTAURANT, 37.51, 126.92, List.of("pasta", "wine", "bread"))));
+        persistCourse("성수 코스", List.of(
+                persistPoi("Seongsu Bakery", Category.CAFE, 37.54, 127.05, List.of("bread")),
+                shared));
+        persistCourse("빈 코스", List.of());
+        // 다른 커플의 코스는 조회되지 않아야 함
+        Course other = new Course();
+        other.initialize("another-couple", "다른 커플 코스", "설명");
+        entityManager.persist(other);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void readsWholeCourseListInOneStatement() throws Exception {
+        List<PagedCourse> rows = new ArrayList<>();
+        SqlStatistics.Snapshot snapshot = SqlStatistics.measure(
+                () -> rows.addAll(courseRepository.findCourseResponses(COUPLE_ID, null, null, 100)));
+
+        assertThat(snapshot.statements()).isEqualTo(1);
+        assertThat(rows).hasSize(3);
+    }
+
+    @Test
+    void matchesEntityGraph() {
+        List<CourseResponse> projected = courseRepository.findCourseResponses(COUPLE_ID, null, null, 100).stream()
+                .map(PagedCourse::course)
+                .toList();
+
+        List<CourseResponse> fromEntities = projected.stream()
+                .map(course -> courseRepository.findByIdWithPoiSets(course.courseId()).orElseThrow())
+                .map(CourseResponse::from)
+                .toList();
+
+        assertThat(projected).isEqualTo(fromEntities);
+        assertThat(projected.get(0).poiList()).isEmpty();
+        assertThat(projected.get(2).poiList()).extracting(poiSet -> poiSet.poi().foodTag())
+                .containsExactly(List.of("coffee", "dessert"), List.of(), List.of("pasta", "wine", "bread"));
+    }
+
+    private Poi persistPoi(String name, Category category, double lat, double lng, List<String> foodTag) {
+        Map<String, String> openHours = new LinkedHashMap<>();
+        openHours.put("mon", "09:00-18:00");
+        openHours.put("sat", "10:00-22:00");
+
+        Poi poi = new Poi();
+        poi.setName(name);
+        poi.setCategory(category);
+        poi.setLat(lat);
+        poi.setLng(lng);
+        poi.setIndoor(category != Category.PARK);
+        poi.setPriceLevel(2);
+        poi.setOpenHours(openHours);
+        poi.setAlcohol(0);
+        poi.setMoodTag("lovely");
+        poi.setFoodTag(new ArrayList<>(foodTag));
+        poi.setRatingAvg(4.3);
+        poi.setLink("https://example.com/" + name.replace(' ', '-'));
+        entityManager.persist(poi);
+        return poi;
+    }
+
+    private void persistCourse(String title, List<Poi> pois) {
+        Course course = new Course();
+        course.initialize(COUPLE_ID, title, title + " 설명");
+        entityManager.persist(course);
+        for (int i = 0; i < pois.size(); i++) {
+            PoiSet poiSet = new PoiSet();
+            poiSet.setCourse(course);
+            poiSet.setPoi(pois.get(i));
+            poiSet.setOrderIndex(i + 1);
+            course.addPoiSet(poiSet);
+            entityManager.persist(poiSet);
+        }
+        // created_at 순서가 생성 순서와 같도록 flush
+        entityManager.flush();
+    }
+}
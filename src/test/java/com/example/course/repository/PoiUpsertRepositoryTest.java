@@ -0,0 +1,135 @@
+package com.example.course.repository;
+
+import com.example.course.TestDatabase;
+import com.example.course.api.dto.Requset.CreateCourseRequest.PoiItem;
+import com.example.course.domain.Poi;
+import com.example.course.domain.service.CourseDomainService;
+import com.example.course.repository.PoiUpsertRepository.UpsertedPoi;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * upsertAll이 저장된 content_hash와 같은 POI는 다시 쓰지 않고, 내용이 바뀌었거나 해시가 없는 기존 행은 다시 쓰는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(JacksonAutoConfiguration.class)
+class PoiUpsertRepositoryTest {
+
+    private static final String OPEN_HOURS = "{\"mon\": \"09:00-18:00\"}";
+    private static final String FOOD_TAG = "[\"coffee\", \"dessert\"]";
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    private final CourseDomainService courseDomainService = new CourseDomainService();
+
+    @Autowired
+    private PoiRepository poiRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void skipsUnchangedPoi() throws Exception {
+        String name = "Unchanged Cafe " + UUID.randomUUID();
+        UpsertedPoi inserted = upsert(poi(name, OPEN_HOURS, FOOD_TAG));
+        String updatedAt = updatedAt(name);
+
+        UpsertedPoi again = upsert(poi(name, OPEN_HOURS, FOOD_TAG));
+
+        assertThat(inserted.created()).isTrue();
+        assertThat(again.id()).isEqualTo(inserted.id());
+        assertThat(again.created()).isFalse();
+        assertThat(again.written()).isFalse();
+        assertThat(updatedAt(name)).isEqualTo(updatedAt);
+    }
+
+    @Test
+    void rewritesPoiWhoseFoodTagChanged() throws Exception {
+        String name = "Food Tag Cafe " + UUID.randomUUID();
+        UpsertedPoi inserted = upsert(poi(name, OPEN_HOURS, FOOD_TAG));
+
+        // 태그 순서도 표시 순서이므로 내용 변경
+        UpsertedPoi reordered = upsert(poi(name, OPEN_HOURS, "[\"dessert\", \"coffee\"]"));
+
+        assertThat(reordered.id()).isEqualTo(inserted.id());
+        assertThat(reordered.written()).isTrue();
+        assertThat(reordered.created()).isFalse();
+        assertThat(column(name, "food_tag::text")).isEqualTo("[\"dessert\", \"coffee\"]");
+    }
+
+    @Test
+    void rewritesPoiWhoseOpenHoursChanged() throws Exception {
+        String name = "Open Hours Cafe " + UUID.randomUUID();
+        UpsertedPoi inserted = upsert(poi(name, OPEN_HOURS, FOOD_TAG));
+
+        UpsertedPoi changed = upsert(poi(name, "{\"mon\": \"09:00-18:00\", \"sat\": \"10:00-22:00\"}", FOOD_TAG));
+
+        assertThat(changed.id()).isEqualTo(inserted.id());
+        assertThat(changed.written()).isTrue();
+        assertThat(column(name, "open_hours ->> 'sat'")).isEqualTo("10:00-22:00");
+    }
+
+    @Test
+    void rewritesLegacyRowWithoutContentHash() throws Exception {
+        String name = "Legacy Cafe " + UUID.randomUUID();
+        // 해시 도입 이전에 기록된 행 (content_hash null)
+        Poi legacy = poi(name, OPEN_HOURS, FOOD_TAG);
+        legacy.setContentHash(null);
+        UpsertedPoi inserted = upsert(legacy);
+        assertThat(column(name, "content_hash")).isNull();
+
+        Poi same = poi(name, OPEN_HOURS, FOOD_TAG);
+        UpsertedPoi rewritten = upsert(same);
+
+        assertThat(rewritten.id()).isEqualTo(inserted.id());
+        assertThat(rewritten.written()).isTrue();
+        assertThat(column(name, "content_hash")).isEqualTo(same.getContentHash());
+        // 해시가 채워진 뒤에는 같은 내용이면 건너뜀
+        assertThat(upsert(poi(name, OPEN_HOURS, FOOD_TAG)).written()).isFalse();
+    }
+
+    private UpsertedPoi upsert(Poi poi) {
+        List<UpsertedPoi> upserted = poiRepository.upsertAll(List.of(poi));
+        assertThat(upserted).hasSize(1);
+        return upserted.get(0);
+    }
+
+    private Poi poi(String name, String openHours, String foodTag) throws Exception {
+        PoiItem item = objectMapper.readValue("""
+                {"seq": 1, "name": "%s", "category": "CAFE", "lat": 37.55, "lng": 126.98, "indoor": true, "priceLevel": 2,
+                 "openHours": %s, "alcohol": 0, "moodTag": "lovely", "foodTag": %s, "link": "https://example.com",
+                 "ratingAvg": 4.3}
+                """.formatted(name, openHours, foodTag), PoiItem.class);
+        return courseDomainService.normalizePoiData(item, 0);
+    }
+
+    private String updatedAt(String name) {
+        return column(name, "updated_at::text");
+    }
+
+    private String column(String name, String expression) {
+        return jdbcTemplate.queryForObject("select " + expression + " from poi where name = ?", String.class, name);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.course.service;
+
+import com.example.course.TestDatabase;
+import com.example.course.api.dto.Requset.CreateCourseRequest;
+import com.example.course.domain.CourseIdempotencyKey;
+import com.example.course.repository.CourseIdempotencyKeyRepository;
+import com.example.course.service.CourseIdempotencyService.Outcome;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Idempotency-Key는 created_at부터 ttl 동안만 재사용되고, 만료된 행은 정리 전이라도 새 요청으로 처리되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseIdempotencyServiceTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private CourseIdempotencyService courseIdempotencyService;
+
+    @Autowired
+    private CourseIdempotencyKeyRepository courseIdempotencyKeyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${course.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Test
+    void replaysKeyWithinTtl() throws Exception {
+        String coupleId = "couple-" + UUID.randomUUID();
+        CreateCourseRequest request = request();
+
+        Outcome first = courseIdempotencyService.createCourse(coupleId, "key-1", request);
+        Outcome retry = courseIdempotencyService.createCourse(coupleId, "key-1", request);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.courseId()).isEqualTo(first.courseId());
+    }
+
+    @Test
+    void doesNotReplayExpiredKey() throws Exception {
+        String coupleId = "couple-" + UUID.randomUUID();
+        String expiredCourseId = UUID.randomUUID().toString();
+        // 정리 작업이 아직 지우지 못한 만료 키
+        transactionTemplate.executeWithoutResult(status -> courseIdempotencyKeyRepository.insert(
+                coupleId, "key-1", "hash", expiredCourseId, Instant.now().minus(ttl).minus(Duration.ofMinutes(1))));
+
+        Outcome outcome = courseIdempotencyService.createCourse(coupleId, "key-1", request());
+
+        assertThat(outcome.replayed()).isFalse();
+        assertThat(outcome.courseId()).isNotEqualTo(expiredCourseId);
+        assertThat(courseIdempotencyKeyRepository.findById(new CourseIdempotencyKey.Id(coupleId, "key-1"))).get()
+                .satisfies(key -> assertThat(key.getCourseId()).isEqualTo(outcome.courseId()));
+    }
+
+    @Test
+    void purgesOnlyExpiredKeys() {
+        String coupleId = "couple-" + UUID.randomUUID();
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            courseIdempotencyKeyRepository.insert(coupleId, "expired", "hash", "course-1", now.minus(ttl).minus(Duration.ofMinutes(1)));
+            courseIdempotencyKeyRepository.insert(coupleId, "fresh", "hash", "course-2", now);
+        });
+
+        courseIdempotencyService.purgeExpired();
+
+        assertThat(courseIdempotencyKeyRepository.findById(new CourseIdempotencyKey.Id(coupleId, "expired"))).isEmpty();
+        assertThat(courseIdempotencyKeyRepository.findById(new CourseIdempotencyKey.Id(coupleId, "fresh"))).isPresent();
+    }
+
+    private CreateCourseRequest request() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        return objectMapper.readValue("""
+                {"title": "idempotent course", "explain": "재시도 테스트", "data": [
+                  {"seq": 1, "name": "Idempotent Cafe %s", "category": "CAFE", "lat": 37.55, "lng": 126.98, "indoor": true,
+                   "openHours": {"mon": "09:00-18:00"}, "foodTag": ["coffee"], "moodTag": "lovely"}
+                ]}
+                """.formatted(suffix), CreateCourseRequest.class);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.course.service;
+
+import com.example.course.TestDatabase;
+import com.example.course.api.dto.Requset.CreateCourseRequest;
+import com.example.course.domain.CourseIngestJob.Status;
+import com.example.course.repository.CourseIdempotencyKeyRepository;
+import com.example.course.repository.CourseIngestJobRepository;
+import com.example.course.repository.CourseRepository;
+import com.example.course.service.CourseIngestService.CourseJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비동기 코스 생성 작업이 DB에 기록되고, 임대가 끝난 작업은 회수되어 코스를 한 번만 만드는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseIngestServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private CourseIngestService courseIngestService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CourseIngestJobRepository courseIngestJobRepository;
+
+    @Autowired
+    private CourseIdempotencyKeyRepository courseIdempotencyKeyRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void storesSubmittedJobUntilItSucceeds() throws Exception {
+        String coupleId = "couple-" + UUID.randomUUID();
+
+        CourseJob submitted = courseIngestService.submit(coupleId, request());
+        CourseJob finished = awaitCompletion(coupleId, submitted.jobId());
+
+        assertThat(finished.status()).isEqualTo(Status.SUCCEEDED);
+        assertThat(courseRepository.findByIdAndCoupleId(finished.courseId(), coupleId)).isPresent();
+        assertThat(courseIngestJobRepository.findById(submitted.jobId())).get()
+                .satisfies(job -> assertThat(job.getPayload()).contains("ingest course"));
+    }
+
+    @Test
+    void recoversJobWhoseLeaseExpired() throws Exception {
+        String coupleId = "couple-" + UUID.randomUUID();
+        String jobId = insertExpiredJob(coupleId);
+
+        courseIngestService.recoverExpired();
+        CourseJob finished = awaitCompletion(coupleId, jobId);
+
+        assertThat(finished.status()).isEqualTo(Status.SUCCEEDED);
+        assertThat(courseRepository.findByIdAndCoupleId(finished.courseId(), coupleId)).isPresent();
+    }
+
+    @Test
+    void recoveredJobDoesNotCreateSecondCourse() throws Exception {
+        String coupleId = "couple-" + UUID.randomUUID();
+        String jobId = insertExpiredJob(coupleId);
+        // 이전 인스턴스가 코스를 저장한 뒤 작업 상태를 갱신하기 전에 종료된 상황
+        String courseId = UUID.randomUUID().toString();
+        transactionTemplate.executeWithoutResult(status -> courseIdempotencyKeyRepository.insert(
+                coupleId, "async-job:" + jobId, "hash", courseId, Instant.now()));
+
+        courseIngestService.recoverExpired();
+        CourseJob finished = awaitCompletion(coupleId, jobId);
+
+        assertThat(finished.status()).isEqualTo(Status.SUCCEEDED);
+        assertThat(finished.courseId()).isEqualTo(courseId);
+        assertThat(courseRepository.findCourseListVersion(coupleId, null, null, 1).courseCount()).isZero();
+    }
+
+    @Test
+    void startsWorkersOnStartAndDrainsQueueOnStop() throws Exception {
+        String coupleId = "couple-" + UUID.randomUUID();
+        CourseIngestService service = new CourseIngestService(courseService, courseIngestJobRepository,
+                courseIdempotencyKeyRepository, objectMapper, transactionManager, new SimpleMeterRegistry(),
+                10, 1, 20, Duration.ofMinutes(5), 3, Duration.ofHours(1), TIMEOUT);
+
+        // 생성만으로는 워커가 돌지 않고 접수도 받지 않음
+        assertThat(service.isRunning()).isFalse();
+        assertThatThrownBy(() -> service.submit(coupleId, request())).isInstanceOf(ResponseStatusException.class);
+
+        service.start();
+        CourseJob first = service.submit(coupleId, request());
+        CourseJob second = service.submit(coupleId, request());
+        service.stop();
+
+        // stop()은 큐에 남은 작업을 처리한 뒤 반환
+        assertThat(service.isRunning()).isFalse();
+        assertThat(service.findJob(coupleId, first.jobId()).status()).isEqualTo(Status.SUCCEEDED);
+        assertThat(service.findJob(coupleId, second.jobId()).status()).isEqualTo(Status.SUCCEEDED);
+        assertThatThrownBy(() -> service.submit(coupleId, request())).isInstanceOf(ResponseStatusException.class);
+    }
+
+    private String insertExpiredJob(String coupleId) throws Exception {
+        String jobId = UUID.randomUUID().toString();
+        String payload = objectMapper.writeValueAsString(request());
+        Instant submittedAt = Instant.now().minus(Duration.ofMinutes(10));
+        transactionTemplate.executeWithoutResult(status -> courseIngestJobRepository.insert(
+                jobId, coupleId, payload, submittedAt.plus(Duration.ofMinutes(5)), submittedAt));
+        return jobId;
+    }
+
+    private CourseJob awaitCompletion(String coupleId, String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        CourseJob job = courseIngestService.findJob(coupleId, jobId);
+        while (job.completedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            job = courseIngestService.findJob(coupleId, jobId);
+        }
+        return job;
+    }
+
+    private CreateCourseRequest request() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        return objectMapper.readValue("""
+                {"title": "ingest course", "explain": "비동기 생성", "data": [
+                  {"seq": 1, "name": "Ingest Cafe %s", "category": "CAFE", "lat": 37.55, "lng": 126.98, "indoor": true,
+                   "openHours": {"mon": "09:00-18:00"}, "foodTag": ["coffee"], "moodTag": "lovely"}
+                ]}
+                """.formatted(suffix), CreateCourseRequest.class);
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.course.service;
+
+import com.example.course.TestDatabase;
+import com.example.course.api.dto.Requset.CreateCourseRequest.PoiItem;
+import com.example.course.domain.Poi;
+import com.example.course.domain.service.CourseDomainService;
+import com.example.course.repository.PoiRepository;
+import com.example.course.repository.PoiUpsertRepository.UpsertedPoi;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고아 POI 정리가 유예 기간 안의 POI와 동시 트랜잭션이 FOR KEY SHARE로 잡은 POI는 건너뛰고,
+ * advisory lock으로 동시에 두 번 실행되지 않는지 내장 PostgreSQL에서 확인 (테스트 프로필은 스케줄 비활성화 - 직접 생성)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrphanPoiCollectorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration GRACE_PERIOD = Duration.ofHours(1);
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private PoiRepository poiRepository;
+
+    @Autowired
+    private PoiSpatialIndex poiSpatialIndex;
+
+    @Autowired
+    private CourseIdempotencyService courseIdempotencyService;
+
+    @Autowired
+    private CourseDomainService courseDomainService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void skipsPoiInsideGracePeriod() {
+        long expired = orphan("Expired Orphan " + UUID.randomUUID());
+        long recent = orphan("Recent Orphan " + UUID.randomUUID());
+        backdate(expired);
+
+        collector(new SimpleMeterRegistry(), 500, Duration.ZERO).collect();
+
+        assertThat(exists(expired)).isFalse();
+        assertThat(exists(recent)).isTrue();
+    }
+
+    @Test
+    void skipsPoiHeldForKeyShare() throws Exception {
+        long held = orphan("Held Orphan " + UUID.randomUUID());
+        long free = orphan("Free Orphan " + UUID.randomUUID());
+        backdate(held);
+        backdate(free);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 코스 저장 중 매핑할 POI를 잠근 채 아직 커밋하지 않은 트랜잭션
+            Future<?> mapping = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                poiRepository.lockForKeyShare(List.of(held));
+                locked.countDown();
+                await(release);
+            }));
+            await(locked);
+
+            collector(new SimpleMeterRegistry(), 500, Duration.ZERO).collect();
+
+            assertThat(exists(held)).isTrue();
+            assertThat(exists(free)).isFalse();
+            release.countDown();
+            mapping.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void advisoryLockSkipsConcurrentRun() throws Exception {
+        long first = orphan("Locked Run Orphan " + UUID.randomUUID());
+        long second = orphan("Locked Run Orphan " + UUID.randomUUID());
+        backdate(first);
+        backdate(second);
+
+        // 한 청크에 하나씩 삭제하고 청크 사이에 멈춰, 첫 실행이 잠금을 쥔 동안 두 번째 실행을 시도
+        SimpleMeterRegistry firstMeters = new SimpleMeterRegistry();
+        SimpleMeterRegistry secondMeters = new SimpleMeterRegistry();
+        OrphanPoiCollector running = collector(firstMeters, 1, Duration.ofSeconds(2));
+        OrphanPoiCollector concurrent = collector(secondMeters, 500, Duration.ZERO);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> firstRun = executor.submit(running::collect);
+            awaitDeleted(first);
+
+            concurrent.collect();
+
+            assertThat(exists(second)).isTrue();
+            assertThat(runs(secondMeters, "skipped")).isEqualTo(1);
+            assertThat(runs(secondMeters, "completed")).isZero();
+
+            firstRun.get(TIMEOUT.toMillis() * 3, TimeUnit.MILLISECONDS);
+            assertThat(exists(second)).isFalse();
+            assertThat(runs(firstMeters, "completed")).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private OrphanPoiCollector collector(SimpleMeterRegistry meterRegistry, int chunkSize, Duration pauseBetweenChunks) {
+        return new OrphanPoiCollector(poiRepository, poiSpatialIndex, courseIdempotencyService, jdbcTemplate,
+                transactionManager, meterRegistry, GRACE_PERIOD, chunkSize, 200, pauseBetweenChunks);
+    }
+
+    /**
+     * 어떤 코스에도 매핑되지 않은 POI 저장
+     */
+    private long orphan(String name) {
+        try {
+            PoiItem item = objectMapper.readValue("""
+                    {"seq": 1, "name": "%s", "category": "CAFE", "lat": 37.55, "lng": 126.98, "indoor": true,
+                     "openHours": {"mon": "09:00-18:00"}, "foodTag": ["coffee"], "moodTag": "lovely"}
+                    """.formatted(name), PoiItem.class);
+            Poi poi = courseDomainService.normalizePoiData(item, 0);
+            List<UpsertedPoi> upserted = transactionTemplate.execute(status -> poiRepository.upsertAll(List.of(poi)));
+            return upserted.get(0).id();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * 유예 기간 이전에 마지막으로 기록된 것처럼 updated_at을 되돌림
+     */
+    private void backdate(long poiId) {
+        jdbcTemplate.update("update poi set updated_at = now() - interval '2 hours' where id = ?", poiId);
+    }
+
+    private boolean exists(long poiId) {
+        return jdbcTemplate.queryForObject("select count(*) from poi where id = ?", Integer.class, poiId) > 0;
+    }
+
+    private void awaitDeleted(long poiId) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (exists(poiId)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("timed out waiting for the collector to delete poi " + poiId);
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static long runs(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("poi.gc.run").tag("result", result).timer().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("timed out waiting for the test latch");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
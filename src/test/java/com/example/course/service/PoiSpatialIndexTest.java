@@ -0,0 +1,90 @@
+package com.example.course.service;
+
+import com.example.course.domain.Category;
+import com.example.course.domain.OpenHoursSchedule;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 셀의 poiId → 위치 해시 테이블이 추가/갱신/삭제를 섞어도 목록과 일치하는지 확인 (DB 없이 put/remove만 사용)
+ */
+class PoiSpatialIndexTest {
+
+    private static final double LAT = 37.555;
+    private static final double LNG = 126.975;
+
+    @Test
+    void keepsEntriesConsistentUnderRandomPutAndRemove() {
+        PoiSpatialIndex index = new PoiSpatialIndex(null, null, null, null);
+        Map<Long, Category> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        Category[] categories = Category.values();
+
+        // 모든 POI를 한 셀(0.01°) 안에 두어 셀 내부 테이블의 충돌/삭제 경로를 집중적으로 사용
+        for (int step = 0; step < 50_000; step++) {
+            long poiId = random.nextInt(2_000);
+            double lat = LAT + (poiId % 50) * 0.00001;
+            double lng = LNG + (poiId / 50) * 0.00001;
+            if (random.nextInt(3) == 0) {
+                index.remove(poiId, lat, lng);
+                expected.remove(poiId);
+            } else {
+                Category category = categories[random.nextInt(categories.length)];
+                index.put(poiId, lat, lng, category, true, null);
+                expected.put(poiId, category);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        Map<Long, Category> indexed = new HashMap<>();
+        for (Category category : categories) {
+            index.findNearby(LAT, LNG, 1_000, category, null, -1, 10_000)
+                    .forEach(match -> indexed.put(match.poiId(), category));
+        }
+        assertThat(indexed).isEqualTo(expected);
+    }
+
+    @Test
+    void updatesInPlaceWithoutDuplicates() {
+        PoiSpatialIndex index = new PoiSpatialIndex(null, null, null, null);
+        for (int round = 0; round < 3; round++) {
+            for (long poiId = 0; poiId < 100; poiId++) {
+                index.put(poiId, LAT, LNG, Category.CAFE, round % 2 == 0, null);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.findNearby(LAT, LNG, 10, null, true, -1, 1_000)).hasSize(100);
+        assertThat(index.findNearby(LAT, LNG, 10, null, null, -1, 1_000).stream()
+                .map(PoiSpatialIndex.Match::poiId)
+                .collect(Collectors.toSet())).hasSize(100);
+    }
+
+    @Test
+    void filtersByOpenTime() {
+        PoiSpatialIndex index = new PoiSpatialIndex(null, null, null, null);
+        index.put(1, LAT, LNG, Category.CAFE, true, schedule("sun", "20:00-03:00"));
+        index.put(2, LAT, LNG, Category.CAFE, true, schedule("mon", "09:00-18:00"));
+        index.put(3, LAT, LNG, Category.CAFE, true, schedule("mon", "00:00-24:00"));
+        // 영업시간 정보 없음 - 시간 조건이 있으면 제외
+        index.put(4, LAT, LNG, Category.CAFE, true, null);
+
+        List<Long> openMondayNight = index.findNearby(LAT, LNG, 10, null, null,
+                        OpenHoursSchedule.minuteOfWeek("mon", "01:30"), 10).stream()
+                .map(PoiSpatialIndex.Match::poiId)
+                .toList();
+
+        assertThat(openMondayNight).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    private static int[] schedule(String day, String range) {
+        return OpenHoursSchedule.fromOpenHours(Map.of(day, range)).toArray();
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.course.service;
+
+import com.example.course.TestDatabase;
+import com.example.course.api.dto.Requset.CreateCourseRequest.PoiItem;
+import com.example.course.domain.Poi;
+import com.example.course.domain.service.CourseDomainService;
+import com.example.course.repository.PoiRepository;
+import com.example.course.repository.PoiUpsertRepository.UpsertedPoi;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 POI 키의 동시 upsert가 DB 기록 하나로 합쳐지고, 선행 기록이 실패/지연되면 직접 기록하며,
+ * 키 순서가 반대인 요청끼리도 교착 없이 끝나는지 내장 PostgreSQL에서 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PoiUpsertCoalescerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration ROW_PAUSE = Duration.ofMillis(200);
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+
+    @Autowired
+    private PoiRepository poiRepository;
+
+    @Autowired
+    private CourseDomainService courseDomainService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void collapsesConcurrentSameKeyUpsertsIntoOneWrite() throws Exception {
+        PoiUpsertCoalescer coalescer = new PoiUpsertCoalescer(TIMEOUT);
+        String name = "Coalesced Cafe " + UUID.randomUUID();
+        AtomicInteger writes = new AtomicInteger();
+        CountDownLatch leaderWriting = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        PoiUpsertCoalescer.Writer writer = pois -> {
+            writes.incrementAndGet();
+            leaderWriting.countDown();
+            await(releaseLeader);
+            return write(pois);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<PoiUpsertCoalescer.Result> leader = executor.submit(() -> coalescer.upsert(List.of(poi(name, 4.0)), writer));
+            assertThat(leaderWriting.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+            List<Thread> followerThreads = new ArrayList<>();
+            List<Future<PoiUpsertCoalescer.Result>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> {
+                    registerCurrentThread(followerThreads);
+                    return coalescer.upsert(List.of(poi(name, 4.0)), writer);
+                }));
+            }
+            // 세 요청 모두 선행 기록의 결과를 기다리는 중일 때 선행 기록 완료
+            awaitWaiting(followerThreads, 3);
+            releaseLeader.countDown();
+
+            Long id = leader.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).upserted().get(0).id();
+            for (Future<PoiUpsertCoalescer.Result> follower : followers) {
+                PoiUpsertCoalescer.Result result = follower.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                assertThat(result.coalesced()).isEqualTo(1);
+                assertThat(result.upserted()).singleElement().satisfies(row -> {
+                    assertThat(row.id()).isEqualTo(id);
+                    assertThat(row.written()).isFalse();
+                });
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(writes).hasValue(1);
+        assertThat(rowCount(name)).isEqualTo(1);
+    }
+
+    @Test
+    void followerWritesItselfWhenLeaderFails() throws Exception {
+        PoiUpsertCoalescer coalescer = new PoiUpsertCoalescer(TIMEOUT);
+        String name = "Failing Leader Cafe " + UUID.randomUUID();
+        CountDownLatch leaderWriting = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        PoiUpsertCoalescer.Writer failingWriter = pois -> {
+            leaderWriting.countDown();
+            await(releaseLeader);
+            throw new IllegalStateException("leader write failed");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<PoiUpsertCoalescer.Result> leader = executor.submit(() -> coalescer.upsert(List.of(poi(name, 4.0)), failingWriter));
+            assertThat(leaderWriting.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+            List<Thread> followerThreads = new ArrayList<>();
+            Future<PoiUpsertCoalescer.Result> follower = executor.submit(() -> {
+                registerCurrentThread(followerThreads);
+                return coalescer.upsert(List.of(poi(name, 4.0)), this::write);
+            });
+            awaitWaiting(followerThreads, 1);
+            releaseLeader.countDown();
+
+            assertThatThrownBy(() -> leader.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+            PoiUpsertCoalescer.Result result = follower.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            assertThat(result.coalesced()).isZero();
+            assertThat(result.upserted()).singleElement().satisfies(row -> {
+                assertThat(row.written()).isTrue();
+                assertThat(row.id()).isEqualTo(poiId(name));
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void followerWritesItselfWhenLeaderTimesOut() throws Exception {
+        PoiUpsertCoalescer coalescer = new PoiUpsertCoalescer(Duration.ofMillis(200));
+        String name = "Slow Leader Cafe " + UUID.randomUUID();
+        CountDownLatch leaderWriting = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        PoiUpsertCoalescer.Writer slowWriter = pois -> {
+            leaderWriting.countDown();
+            await(releaseLeader);
+            return write(pois);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<PoiUpsertCoalescer.Result> leader = executor.submit(() -> coalescer.upsert(List.of(poi(name, 4.0)), slowWriter));
+            assertThat(leaderWriting.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+            // 선행 기록이 끝나기 전에 대기 시간이 지나 직접 기록
+            PoiUpsertCoalescer.Result result = coalescer.upsert(List.of(poi(name, 4.0)), this::write);
+            assertThat(result.coalesced()).isZero();
+            assertThat(result.upserted()).singleElement().satisfies(row -> assertThat(row.written()).isTrue());
+
+            releaseLeader.countDown();
+            UpsertedPoi leaderRow = leader.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).upserted().get(0);
+            assertThat(leaderRow.id()).isEqualTo(result.upserted().get(0).id());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(rowCount(name)).isEqualTo(1);
+    }
+
+    @Test
+    void opposingKeyOrdersDoNotDeadlock() throws Exception {
+        PoiUpsertCoalescer coalescer = new PoiUpsertCoalescer(TIMEOUT);
+        int rounds = 3;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                String prefix = "Deadlock " + UUID.randomUUID() + " ";
+                write(List.of(poi(prefix + "A", 1.0), poi(prefix + "B", 1.0)));
+
+                // 내용이 서로 달라 합쳐지지 않으므로 두 요청 모두 두 행을 갱신 - 요청 순서와 무관하게 같은 순서로 잠가야 함
+                CyclicBarrier start = new CyclicBarrier(2);
+                AtomicReference<Throwable> failure = new AtomicReference<>();
+                Future<?> forward = executor.submit(() -> upsertAfter(start, failure, coalescer,
+                        List.of(poi(prefix + "A", 2.0), poi(prefix + "B", 2.0))));
+                Future<?> backward = executor.submit(() -> upsertAfter(start, failure, coalescer,
+                        List.of(poi(prefix + "B", 3.0), poi(prefix + "A", 3.0))));
+                forward.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                backward.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+                assertThat(failure.get()).isNull();
+                assertThat(rowCount(prefix + "A")).isEqualTo(1);
+                assertThat(rowCount(prefix + "B")).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void upsertAfter(CyclicBarrier start, AtomicReference<Throwable> failure, PoiUpsertCoalescer coalescer,
+                             List<Poi> pois) {
+        try {
+            start.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            coalescer.upsert(pois, this::writeRowByRow);
+        } catch (Throwable ex) {
+            failure.compareAndSet(null, ex);
+        }
+    }
+
+    /**
+     * 재시도 없는 기록 - 교착이 나면 PostgreSQL 오류가 그대로 드러나도록
+     */
+    private List<UpsertedPoi> write(List<Poi> sortedPois) {
+        return transactionTemplate.execute(status -> poiRepository.upsertAll(sortedPois));
+    }
+
+    /**
+     * 한 트랜잭션에서 한 행씩 기록하며 사이에 잠시 멈춤 - 두 요청이 첫 행 잠금을 쥔 채 다음 행으로 넘어가도록
+     */
+    private List<UpsertedPoi> writeRowByRow(List<Poi> sortedPois) {
+        return transactionTemplate.execute(status -> {
+            List<UpsertedPoi> upserted = new ArrayList<>();
+            for (Poi poi : sortedPois) {
+                upserted.addAll(poiRepository.upsertAll(List.of(poi)));
+                sleep(ROW_PAUSE);
+            }
+            return upserted;
+        });
+    }
+
+    private Poi poi(String name, double ratingAvg) {
+        try {
+            PoiItem item = objectMapper.readValue("""
+                    {"seq": 1, "name": "%s", "category": "CAFE", "lat": 37.55, "lng": 126.98, "indoor": true,
+                     "openHours": {"mon": "09:00-18:00"}, "foodTag": ["coffee"], "moodTag": "lovely", "ratingAvg": %s}
+                    """.formatted(name, ratingAvg), PoiItem.class);
+            return courseDomainService.normalizePoiData(item, 0);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private int rowCount(String name) {
+        return jdbcTemplate.queryForObject("select count(*) from poi where name = ?", Integer.class, name);
+    }
+
+    private Long poiId(String name) {
+        return jdbcTemplate.queryForObject("select id from poi where name = ?", Long.class, name);
+    }
+
+    private static void registerCurrentThread(List<Thread> threads) {
+        synchronized (threads) {
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    /**
+     * 대기 요청 스레드가 모두 선행 기록의 결과를 기다리는 상태(TIMED_WAITING)가 될 때까지 대기
+     */
+    private static void awaitWaiting(List<Thread> threads, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            synchronized (threads) {
+                if (threads.size() == count
+                        && threads.stream().allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING)) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("followers did not start waiting for the leader");
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("timed out waiting for the test to release the writer");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+-- 마이그레이션 도입 이전 스키마 (테스트 전용) - 운영 DB는 엔티티 기준 ddl-auto로 만들어진 이 상태에서 버전 0으로 기준선을 잡는다.
+-- 빈 DB에서 V1부터 실제 운영과 같은 순서로 적용되는지 확인하기 위해 application-migration.yaml에서만 사용한다.
+
+create table course (
+    id          varchar(100)  not null,
+    couple_id   varchar(100)  not null,
+    title       varchar(200)  not null,
+    description varchar(1000) not null,
+    score       bigint        not null,
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create table poi (
+    id          bigint generated by default as identity,
+    name        varchar(200) not null,
+    category    varchar(40)  not null,
+    lat         float(53)    not null,
+    lng         float(53)    not null,
+    indoor      boolean      not null,
+    price_level integer,
+    open_hours  jsonb,
+    alcohol     integer,
+    mood_tag    varchar(50)  not null,
+    rating_avg  float(53),
+    link        varchar(2048),
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone not null,
+    primary key (id),
+    constraint uk_poi_name_lat_lng unique (name, lat, lng)
+);
+
+create table poi_food_tags (
+    poi_id        bigint  not null,
+    food_tag      varchar(30),
+    display_order integer not null,
+    primary key (poi_id, display_order),
+    constraint fk_poi_food_tags_poi_legacy foreign key (poi_id) references poi (id)
+);
+
+create table poi_set (
+    id         bigint generated by default as identity,
+    course_id  varchar(100) not null,
+    poi_id     bigint       not null,
+    "order"    integer      not null,
+    updated_at timestamp(6) with time zone,
+    primary key (id),
+    constraint fk_poi_set_course foreign key (course_id) references course (id),
+    constraint fk_poi_set_poi foreign key (poi_id) references poi (id)
+);
+
+create index idx_course_couple_id on course (couple_id);
+create index idx_course_couple_created on course (couple_id, created_at);
+create index idx_poi_category on poi (category);
+create index idx_poi_mood_tag on poi (mood_tag);
+create index idx_poi_location on poi (lat, lng);
+create index idx_poi_set_course_order on poi_set (course_id, "order");
+create index idx_poi_set_poi on poi_set (poi_id);